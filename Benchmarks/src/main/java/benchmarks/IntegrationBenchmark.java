@@ -0,0 +1,114 @@
+package benchmarks;
+
+import math.integration.BatchRungeKuttaIntegrator;
+import math.integration.IStateSink;
+import math.integration.LinearPropagator;
+import math.integration.LinearSystem;
+import math.integration.RungeKuttaIntegrator;
+import math.matrix.DenseMatrix;
+import math.matrix.IMatrix;
+import math.vector.IVector;
+import math.vector.Vector;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IntegrationBenchmark {
+
+    private static final double STEP = 0.01;
+
+    private static final double MAX_TIME = 1;
+
+    @Param({"4", "16"})
+    public int dimension;
+
+    @Param({"1024"})
+    public int trajectories;
+
+    private LinearSystem system;
+
+    private DenseMatrix initialStates;
+
+    private IVector[] initialVectors;
+
+    private IStateSink emptySink = (t, state) -> { };
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+
+        // skew symmetric matrix, trajectories stay bounded
+        IMatrix a = new DenseMatrix(dimension, dimension);
+        for(int row = 0; row < dimension; row++) {
+            for(int col = row + 1; col < dimension; col++) {
+                double value = random.nextDouble() * 2 - 1;
+                a.set(row, col, value);
+                a.set(col, row, -value);
+            }
+        }
+        system = new LinearSystem(a);
+
+        initialStates = new DenseMatrix(dimension, trajectories);
+        initialVectors = new IVector[trajectories];
+        for(int col = 0; col < trajectories; col++) {
+            initialVectors[col] = new Vector(dimension, false);
+
+            for(int row = 0; row < dimension; row++) {
+                double value = random.nextDouble();
+                initialStates.set(row, col, value);
+                initialVectors[col].set(row, value);
+            }
+        }
+    }
+
+    @Benchmark
+    public double serialRungeKutta() throws IOException {
+        // plain stepping, the propagator is measured by propagatorRungeKutta
+        RungeKuttaIntegrator integrator = new RungeKuttaIntegrator(STEP).setPropagating(false);
+        double sum = 0;
+
+        for(IVector x0 : initialVectors) {
+            sum += integrator.integrate(system, x0, 0, MAX_TIME, emptySink).get(0);
+        }
+
+        return sum;
+    }
+
+    @Benchmark
+    public IMatrix batchRungeKutta() {
+        return new BatchRungeKuttaIntegrator(STEP).setPropagating(false).integrate(system, initialStates, 0, MAX_TIME);
+    }
+
+    @Benchmark
+    public IMatrix batchPropagatorRungeKutta() {
+        return new BatchRungeKuttaIntegrator(STEP).integrate(system, initialStates, 0, MAX_TIME);
+    }
+
+    @Benchmark
+    public double propagatorRungeKutta() throws IOException {
+        LinearPropagator propagator = LinearPropagator.rungeKutta(system, STEP);
+        double sum = 0;
+
+        for(IVector x0 : initialVectors) {
+            sum += propagator.integrate(x0, 0, MAX_TIME, emptySink).get(0);
+        }
+
+        return sum;
+    }
+
+    @Benchmark
+    public IMatrix jumpRungeKutta() {
+        LinearPropagator propagator = LinearPropagator.rungeKutta(system, STEP);
+        long steps = RungeKuttaIntegrator.numberOfSteps(0, MAX_TIME, STEP);
+
+        return propagator.power(steps).nMultiply(initialStates);
+    }
+}
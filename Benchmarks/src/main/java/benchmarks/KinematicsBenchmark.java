@@ -0,0 +1,69 @@
+package benchmarks;
+
+import kinematics.Manipulator;
+import kinematics.Segment;
+import math.function.InverseKinematicFunction;
+import math.optimisation.Optimisation;
+import math.vector.IVector;
+import math.vector.Vector;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KinematicsBenchmark {
+
+    @Param({"3", "10", "30"})
+    public int segmentCount;
+
+    private Manipulator manipulator;
+
+    private List<IVector> angleVectors;
+
+    private InverseKinematicFunction kinematicFunction;
+
+    private IVector startingPoint;
+
+    private IVector dxVector;
+
+    @Setup
+    public void setUp() {
+        List<Segment> segments = new LinkedList<>();
+        angleVectors = new LinkedList<>();
+
+        for(int i = 0; i < segmentCount; i++) {
+            IVector startAngles = new Vector(new double[] {0, 10, 20});
+            IVector minAngles = new Vector(new double[] {-120, -120, -120});
+            IVector maxAngles = new Vector(new double[] {120, 120, 120});
+
+            segments.add(new Segment(4d / segmentCount, startAngles, minAngles, maxAngles));
+            angleVectors.add(new Vector(new double[] {5, -5, 10}));
+        }
+
+        manipulator = new Manipulator(segments, Vector.parseSimple("0 0 0 1"));
+
+        kinematicFunction = new InverseKinematicFunction(manipulator);
+        kinematicFunction.setReachForPoint(Vector.parseSimple("1 2 1"));
+        startingPoint = kinematicFunction.listAnglesToArray();
+        dxVector = Optimisation.initDxVector(0.5, startingPoint.getDimension());
+    }
+
+    @Benchmark
+    public IVector reachForGivenAngles() {
+        return manipulator.reachForGivenAngles(angleVectors);
+    }
+
+    @Benchmark
+    @Warmup(iterations = 2, time = 2)
+    @Measurement(iterations = 3, time = 2)
+    public IVector hookeJeevesAlgorithm() {
+        return Optimisation.hookeJeevesAlgorithm(kinematicFunction, startingPoint, dxVector, 10E-3, false);
+    }
+}
@@ -0,0 +1,81 @@
+package benchmarks;
+
+import math.matrix.DenseMatrix;
+import math.matrix.IMatrix;
+import math.matrix.Matrix;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatrixBenchmark {
+
+    @Param({"4", "16", "64", "256"})
+    public int size;
+
+    /**
+     * Matrix (double[][] with permutations) or DenseMatrix (flat row-major array)
+     */
+    @Param({"Matrix", "DenseMatrix"})
+    public String implementation;
+
+    private IMatrix a;
+
+    private IMatrix b;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+
+        a = createMatrix(size, random);
+        b = createMatrix(size, random);
+
+        // diagonally dominant, so the matrix is always invertible
+        for(int i = 0; i < size; i++) {
+            a.set(i, i, a.get(i, i) + size);
+        }
+    }
+
+    private IMatrix createMatrix(int size, Random random) {
+        IMatrix matrix = "DenseMatrix".equals(implementation) ? new DenseMatrix(size, size) : new Matrix(size, size);
+
+        for(int row = 0; row < size; row++) {
+            for(int col = 0; col < size; col++) {
+                matrix.set(row, col, random.nextDouble() * 2 - 1);
+            }
+        }
+
+        return matrix;
+    }
+
+    @Benchmark
+    public IMatrix nMultiply() {
+        return a.nMultiply(b);
+    }
+
+    @Benchmark
+    public IMatrix nAdd() {
+        return a.nAdd(b);
+    }
+
+    @Benchmark
+    public IMatrix nTranspose() {
+        return a.nTranspose(false);
+    }
+
+    @Benchmark
+    public double determinant() {
+        return a.determinant();
+    }
+
+    @Benchmark
+    public IMatrix nInvert() {
+        return a.nInvert();
+    }
+}
@@ -0,0 +1,155 @@
+package benchmarks;
+
+import functions.*;
+import math.vector.IVector;
+import math.vector.Vector;
+import models.MovableObject;
+import org.openjdk.jmh.annotations.*;
+import particles.Billboards;
+import particles.CameraBasis;
+import particles.Particle;
+import particles.ParticleStore;
+import particles.ParticleVertexBuilder;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One frame of a particle system in steady state: every particle is moved, the ones which died are removed and
+ * as many new ones are spawned. Particles live 1 to 3 seconds, so about 1% of them is replaced every frame.
+ * The vertex buffer of all particles is built without a GL context, as the renderer does every frame. The force
+ * field case moves a second store under gravity, drag, a vortex, an attractor and turbulence.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParticleBenchmark {
+
+    private static final int FRAME = 16;
+
+    @Param({"10000", "1000000"})
+    public int particles;
+
+    private Random random;
+
+    private ParticleStore store;
+
+    private ParticleStore fieldStore;
+
+    private List<Particle> particleObjects;
+
+    private ParticleVertexBuilder vertexBuilder = new ParticleVertexBuilder();
+
+    /**
+     * Camera of the Labos2 demo
+     */
+    private CameraBasis camera = new CameraBasis(Vector.parseSimple("0 0 0"), Vector.parseSimple("0 0 600"), Vector.parseSimple("0 1 0"));
+
+    private float[] corners;
+
+    @Setup
+    public void setUp() {
+        random = new Random(42);
+
+        store = new ParticleStore(particles);
+        IVector gravity = AccelerationFunctions.GRAVITY;
+        store.setAcceleration(gravity.get(0), gravity.get(1), gravity.get(2));
+
+        fieldStore = new ParticleStore(particles);
+        IVector center = Vector.parseSimple("0.5 0.5 0.5");
+        fieldStore.setForceField(new ForceFieldStack()
+                .add(new GravityField(gravity))
+                .add(new DragField(1E-3))
+                .add(new VortexField(center, Vector.parseSimple("0 1 0"), 1E-5, 0.25))
+                .add(new AttractorField(center, 1E-6, 0.05))
+                .add(new TurbulenceField(1E-5, 0.1, 42).setDrift(0, 1E-4, 0)));
+
+        particleObjects = new ArrayList<>(particles);
+
+        for(int i = 0; i < particles; i++) {
+            spawn();
+            spawn(fieldStore);
+            particleObjects.add(newParticle());
+        }
+
+        corners = new float[particles * Billboards.FLOATS_PER_PARTICLE];
+    }
+
+    private void spawn() {
+        spawn(store);
+    }
+
+    private void spawn(ParticleStore store) {
+        store.add(random.nextDouble(), random.nextDouble(), random.nextDouble(), 0, -0.1, 0, lifespan(), 10);
+    }
+
+    private Particle newParticle() {
+        IVector position = new Vector(new double[] {random.nextDouble(), random.nextDouble(), random.nextDouble()});
+        MovableObject movableObject = new MovableObject(new Vector(new double[] {0, -0.1, 0}), position, AccelerationFunctions.GRAVITY_FUNC);
+
+        return new Particle(lifespan(), movableObject, null, 10);
+    }
+
+    private int lifespan() {
+        return 1000 + random.nextInt(2000);
+    }
+
+    @Benchmark
+    public int store() {
+        store.move(FRAME);
+
+        while(store.size() < particles) {
+            spawn();
+        }
+
+        return store.size();
+    }
+
+    @Benchmark
+    public int forceFields() {
+        fieldStore.move(FRAME);
+
+        while(fieldStore.size() < particles) {
+            spawn(fieldStore);
+        }
+
+        return fieldStore.size();
+    }
+
+    @Benchmark
+    public float[] billboards() {
+        Billboards.expand(store, camera, corners);
+        return corners;
+    }
+
+    @Benchmark
+    public int vertexBuffer() {
+        return vertexBuilder.build(store, camera);
+    }
+
+    @Benchmark
+    public int particleObjects() {
+        Iterator<Particle> iterator = particleObjects.iterator();
+
+        while(iterator.hasNext()) {
+            Particle particle = iterator.next();
+            particle.move(FRAME);
+
+            if(particle.isAlive() == false) {
+                iterator.remove();
+            }
+        }
+
+        while(particleObjects.size() < particles) {
+            particleObjects.add(newParticle());
+        }
+
+        return particleObjects.size();
+    }
+}
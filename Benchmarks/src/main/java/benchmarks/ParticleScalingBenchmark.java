@@ -0,0 +1,74 @@
+package benchmarks;
+
+import functions.AccelerationFunctions;
+import math.vector.IVector;
+import org.openjdk.jmh.annotations.*;
+import particles.ParticleStore;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Steady state frame of {@link ParticleBenchmark} with the parallel update on pools of 1 to 8 threads,
+ * e.g. -p threads=1,4 to compare two of them.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParticleScalingBenchmark {
+
+    private static final int FRAME = 16;
+
+    @Param({"1000000"})
+    public int particles;
+
+    @Param({"1", "2", "4", "8"})
+    public int threads;
+
+    private Random random;
+
+    private ForkJoinPool pool;
+
+    private ParticleStore store;
+
+    @Setup
+    public void setUp() {
+        random = new Random(42);
+        pool = new ForkJoinPool(threads);
+
+        store = new ParticleStore(particles);
+        store.setParallel(true);
+        store.setPool(pool);
+
+        IVector gravity = AccelerationFunctions.GRAVITY;
+        store.setAcceleration(gravity.get(0), gravity.get(1), gravity.get(2));
+
+        while(store.size() < particles) {
+            spawn();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    private void spawn() {
+        store.add(random.nextDouble(), random.nextDouble(), random.nextDouble(), 0, -0.1, 0, 1000 + random.nextInt(2000), 10);
+    }
+
+    @Benchmark
+    public int parallelStore() {
+        store.move(FRAME);
+
+        while(store.size() < particles) {
+            spawn();
+        }
+
+        return store.size();
+    }
+}
@@ -0,0 +1,62 @@
+package benchmarks;
+
+import math.vector.IVector;
+import math.vector.Vector;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VectorBenchmark {
+
+    @Param({"3", "4", "64", "1024"})
+    public int dimension;
+
+    private IVector a;
+
+    private IVector b;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+
+        a = new Vector(dimension, false);
+        b = new Vector(dimension, false);
+
+        for(int i = 0; i < dimension; i++) {
+            a.set(i, random.nextDouble());
+            b.set(i, random.nextDouble());
+        }
+    }
+
+    @Benchmark
+    public IVector nAdd() {
+        return a.nAdd(b);
+    }
+
+    @Benchmark
+    public IVector nScalarMultiply() {
+        return a.nScalarMultiply(1.5);
+    }
+
+    @Benchmark
+    public double scalarProduct() {
+        return a.scalarProduct(b);
+    }
+
+    @Benchmark
+    public double norm() {
+        return a.norm();
+    }
+
+    @Benchmark
+    public IVector nNormalize() {
+        return a.nNormalize();
+    }
+}
@@ -1,9 +1,9 @@
-package model;
-
-public enum DotLocation {
-    INSIDE,
-
-    OUTSIDE,
-
-    EDGE
-}
+package model;
+
+public enum DotLocation {
+    INSIDE,
+
+    OUTSIDE,
+
+    EDGE
+}
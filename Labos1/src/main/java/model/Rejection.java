@@ -1,11 +1,11 @@
-package model;
-
-public enum Rejection {
-    NO_REJECTION,
-
-    REJECTION_1,
-
-    REJECTION_2,
-
-    REJECTION_3
-}
+package model;
+
+public enum Rejection {
+    NO_REJECTION,
+
+    REJECTION_1,
+
+    REJECTION_2,
+
+    REJECTION_3
+}
@@ -0,0 +1,69 @@
+package functions;
+
+import math.vector.IVector;
+import particles.ParticleStore;
+
+/**
+ * Inverse square attraction to a point, acceleration strength * r / (|r|^2 + softening^2)^(3/2) where r points from
+ * the particle to the attractor. The softening keeps the acceleration finite at the attractor. A negative strength
+ * repels.
+ */
+public class AttractorField implements IForceField {
+
+    private double x;
+
+    private double y;
+
+    private double z;
+
+    private double strength;
+
+    private double softeningSquared;
+
+    /**
+     * @param strength acceleration at unit distance times the squared distance, per millisecond squared
+     * @param softening distance below which the attraction stops growing
+     */
+    public AttractorField(IVector position, double strength, double softening) {
+        if(softening <= 0) {
+            throw new IllegalArgumentException("Softening must be greater than 0");
+        }
+
+        this.x = position.get(0);
+        this.y = position.get(1);
+        this.z = position.get(2);
+        this.strength = strength;
+        this.softeningSquared = softening * softening;
+    }
+
+    @Override
+    public void apply(ParticleStore store, int start, int end, double timeElapsed) {
+        double[] px = store.getPositionX();
+        double[] py = store.getPositionY();
+        double[] pz = store.getPositionZ();
+        double[] vx = store.getVelocityX();
+        double[] vy = store.getVelocityY();
+        double[] vz = store.getVelocityZ();
+
+        double scale = strength * timeElapsed;
+
+        for(int i = start; i < end; i++) {
+            double rx = x - px[i];
+            double ry = y - py[i];
+            double rz = z - pz[i];
+
+            double distanceSquared = rx * rx + ry * ry + rz * rz + softeningSquared;
+            double factor = scale / (distanceSquared * Math.sqrt(distanceSquared));
+
+            vx[i] += rx * factor;
+            vy[i] += ry * factor;
+            vz[i] += rz * factor;
+        }
+    }
+
+    public void setPosition(IVector position) {
+        this.x = position.get(0);
+        this.y = position.get(1);
+        this.z = position.get(2);
+    }
+}
@@ -0,0 +1,38 @@
+package functions;
+
+import particles.ParticleStore;
+
+/**
+ * Linear drag, acceleration -k * v. Velocities are scaled by the exact decay exp(-k * dt) of the step, so the drag
+ * stays stable for any step length.
+ */
+public class DragField implements IForceField {
+
+    private double coefficient;
+
+    /**
+     * @param coefficient k, per millisecond
+     */
+    public DragField(double coefficient) {
+        if(coefficient < 0) {
+            throw new IllegalArgumentException("Drag coefficient cannot be negative");
+        }
+
+        this.coefficient = coefficient;
+    }
+
+    @Override
+    public void apply(ParticleStore store, int start, int end, double timeElapsed) {
+        double decay = Math.exp(-coefficient * timeElapsed);
+
+        scale(store.getVelocityX(), decay, start, end);
+        scale(store.getVelocityY(), decay, start, end);
+        scale(store.getVelocityZ(), decay, start, end);
+    }
+
+    private static void scale(double[] values, double factor, int start, int end) {
+        for(int i = start; i < end; i++) {
+            values[i] *= factor;
+        }
+    }
+}
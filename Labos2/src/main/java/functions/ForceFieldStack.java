@@ -0,0 +1,46 @@
+package functions;
+
+import particles.ParticleStore;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sum of several fields, applied one after another in the order they were added. Each field is its own loop over
+ * the range, the store hands the stack ranges small enough to stay in cache between the loops.
+ */
+public class ForceFieldStack implements IForceField {
+
+    private List<IForceField> fields = new ArrayList<>();
+
+    public ForceFieldStack add(IForceField field) {
+        if(field == null) {
+            throw new IllegalArgumentException("Argument cannot be null");
+        }
+
+        fields.add(field);
+        return this;
+    }
+
+    public boolean remove(IForceField field) {
+        return fields.remove(field);
+    }
+
+    @Override
+    public void apply(ParticleStore store, int start, int end, double timeElapsed) {
+        for(int i = 0, n = fields.size(); i < n; i++) {
+            fields.get(i).apply(store, start, end, timeElapsed);
+        }
+    }
+
+    @Override
+    public void advance(double timeElapsed) {
+        for(int i = 0, n = fields.size(); i < n; i++) {
+            fields.get(i).advance(timeElapsed);
+        }
+    }
+
+    public int size() {
+        return fields.size();
+    }
+}
@@ -0,0 +1,43 @@
+package functions;
+
+import math.vector.IVector;
+import particles.ParticleStore;
+
+/**
+ * Constant acceleration
+ */
+public class GravityField implements IForceField {
+
+    private double x;
+
+    private double y;
+
+    private double z;
+
+    public GravityField(IVector acceleration) {
+        this(acceleration.get(0), acceleration.get(1), acceleration.get(2));
+    }
+
+    public GravityField(double x, double y, double z) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+    }
+
+    @Override
+    public void apply(ParticleStore store, int start, int end, double timeElapsed) {
+        add(store.getVelocityX(), x * timeElapsed, start, end);
+        add(store.getVelocityY(), y * timeElapsed, start, end);
+        add(store.getVelocityZ(), z * timeElapsed, start, end);
+    }
+
+    private static void add(double[] values, double increment, int start, int end) {
+        if(increment == 0) {
+            return;
+        }
+
+        for(int i = start; i < end; i++) {
+            values[i] += increment;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package functions;
+
+import particles.ParticleStore;
+
+/**
+ * Acceleration acting on every particle of a store, applied in bulk to the primitive arrays of the store, so a field
+ * costs one loop over the particles and no objects. Positions are in the space of the owning system, time is in
+ * milliseconds and accelerations are per millisecond squared.
+ *
+ * A field only reads positions and velocities of the given range and writes velocities of the same range, the store
+ * applies it to disjoint ranges concurrently in parallel mode.
+ */
+public interface IForceField {
+
+    /**
+     * Adds the acceleration of the field times the elapsed time to velocities of particles [start, end)
+     */
+    void apply(ParticleStore store, int start, int end, double timeElapsed);
+
+    /**
+     * Advances the state of a time dependent field, called once per step before the field is applied
+     */
+    default void advance(double timeElapsed) {
+    }
+}
@@ -0,0 +1,163 @@
+package functions;
+
+import particles.ParticleStore;
+
+import java.util.Random;
+
+/**
+ * Smooth pseudo-random acceleration, value noise over a lattice of random vectors. The vectors of the 8 lattice
+ * points around a particle are blended with smoothstep weights, so the acceleration changes continuously with the
+ * position and a single lookup gives all three components. The noise drifts through space with a constant velocity,
+ * so the particles see it change over time.
+ */
+public class TurbulenceField implements IForceField {
+
+    private static final int TABLE_SIZE = 256;
+
+    private static final int MASK = TABLE_SIZE - 1;
+
+    private int[] permutation = new int[2 * TABLE_SIZE];
+
+    /**
+     * Random vectors of the lattice, x, y and z of every vector one after another
+     */
+    private double[] vectors = new double[3 * TABLE_SIZE];
+
+    private double amplitude;
+
+    private double frequency;
+
+    private double driftX;
+
+    private double driftY;
+
+    private double driftZ;
+
+    private double offsetX;
+
+    private double offsetY;
+
+    private double offsetZ;
+
+    /**
+     * @param amplitude max acceleration, per millisecond squared
+     * @param scale distance between two lattice points, the size of the eddies
+     * @param seed equal seeds give equal noise
+     */
+    public TurbulenceField(double amplitude, double scale, long seed) {
+        if(scale <= 0) {
+            throw new IllegalArgumentException("Scale must be greater than 0");
+        }
+
+        this.amplitude = amplitude;
+        this.frequency = 1 / scale;
+
+        Random random = new Random(seed);
+        for(int i = 0; i < TABLE_SIZE; i++) {
+            permutation[i] = i;
+        }
+        for(int i = TABLE_SIZE - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = permutation[i];
+            permutation[i] = permutation[j];
+            permutation[j] = swap;
+        }
+        System.arraycopy(permutation, 0, permutation, TABLE_SIZE, TABLE_SIZE);
+
+        for(int i = 0; i < vectors.length; i++) {
+            vectors[i] = 2 * random.nextDouble() - 1;
+        }
+    }
+
+    /**
+     * @param x velocity of the noise, per millisecond
+     */
+    public TurbulenceField setDrift(double x, double y, double z) {
+        this.driftX = x;
+        this.driftY = y;
+        this.driftZ = z;
+        return this;
+    }
+
+    @Override
+    public void advance(double timeElapsed) {
+        offsetX -= driftX * timeElapsed * frequency;
+        offsetY -= driftY * timeElapsed * frequency;
+        offsetZ -= driftZ * timeElapsed * frequency;
+    }
+
+    @Override
+    public void apply(ParticleStore store, int start, int end, double timeElapsed) {
+        double[] px = store.getPositionX();
+        double[] py = store.getPositionY();
+        double[] pz = store.getPositionZ();
+        double[] vx = store.getVelocityX();
+        double[] vy = store.getVelocityY();
+        double[] vz = store.getVelocityZ();
+
+        int[] p = permutation;
+        double[] g = vectors;
+        double scale = amplitude * timeElapsed;
+
+        for(int i = start; i < end; i++) {
+            double x = px[i] * frequency + offsetX;
+            double y = py[i] * frequency + offsetY;
+            double z = pz[i] * frequency + offsetZ;
+
+            int cellX = floor(x);
+            int cellY = floor(y);
+            int cellZ = floor(z);
+
+            int x0 = cellX & MASK;
+            int y0 = cellY & MASK;
+            int z0 = cellZ & MASK;
+
+            double u = smoothstep(x - cellX);
+            double v = smoothstep(y - cellY);
+            double w = smoothstep(z - cellZ);
+
+            // lattice points of the cell, hashed through the permutation
+            int a = p[x0] + y0;
+            int b = p[x0 + 1] + y0;
+            int aa = 3 * p[p[a] + z0];
+            int ab = 3 * p[p[a + 1] + z0];
+            int ba = 3 * p[p[b] + z0];
+            int bb = 3 * p[p[b + 1] + z0];
+            int aa1 = 3 * p[p[a] + z0 + 1];
+            int ab1 = 3 * p[p[a + 1] + z0 + 1];
+            int ba1 = 3 * p[p[b] + z0 + 1];
+            int bb1 = 3 * p[p[b + 1] + z0 + 1];
+
+            vx[i] += blend(g, 0, aa, ba, ab, bb, aa1, ba1, ab1, bb1, u, v, w) * scale;
+            vy[i] += blend(g, 1, aa, ba, ab, bb, aa1, ba1, ab1, bb1, u, v, w) * scale;
+            vz[i] += blend(g, 2, aa, ba, ab, bb, aa1, ba1, ab1, bb1, u, v, w) * scale;
+        }
+    }
+
+    /**
+     * Component c of the lattice vectors blended by the weights
+     */
+    private static double blend(double[] g, int c, int aa, int ba, int ab, int bb, int aa1, int ba1, int ab1, int bb1,
+                                double u, double v, double w) {
+        double near = lerp(v, lerp(u, g[aa + c], g[ba + c]), lerp(u, g[ab + c], g[bb + c]));
+        double far = lerp(v, lerp(u, g[aa1 + c], g[ba1 + c]), lerp(u, g[ab1 + c], g[bb1 + c]));
+
+        return lerp(w, near, far);
+    }
+
+    /**
+     * Floor of a value within the int range, cheaper than Math.floor which is not always inlined
+     */
+    private static int floor(double value) {
+        int truncated = (int) value;
+        return value < truncated ? truncated - 1 : truncated;
+    }
+
+    private static double smoothstep(double t) {
+        return t * t * (3 - 2 * t);
+    }
+
+    private static double lerp(double t, double a, double b) {
+        return a + t * (b - a);
+    }
+}
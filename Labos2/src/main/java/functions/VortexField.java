@@ -0,0 +1,82 @@
+package functions;
+
+import math.vector.IVector;
+import particles.ParticleStore;
+
+/**
+ * Swirl around an axis, acceleration strength * (axis x r) / (1 + d^2 / radius^2), where r is the offset of the
+ * particle from the center and d its distance from the axis. Close to the axis particles circle with angular
+ * acceleration strength, far from it the swirl fades.
+ */
+public class VortexField implements IForceField {
+
+    private double centerX;
+
+    private double centerY;
+
+    private double centerZ;
+
+    private double axisX;
+
+    private double axisY;
+
+    private double axisZ;
+
+    private double strength;
+
+    private double inverseRadiusSquared;
+
+    /**
+     * @param axis direction of the axis, counterclockwise swirl when looking against it
+     * @param strength per millisecond squared
+     * @param radius distance from the axis at which the swirl is halved
+     */
+    public VortexField(IVector center, IVector axis, double strength, double radius) {
+        if(radius <= 0) {
+            throw new IllegalArgumentException("Radius must be greater than 0");
+        }
+
+        double norm = axis.norm();
+        if(norm == 0) {
+            throw new IllegalArgumentException("Axis cannot be a zero vector");
+        }
+
+        this.centerX = center.get(0);
+        this.centerY = center.get(1);
+        this.centerZ = center.get(2);
+        this.axisX = axis.get(0) / norm;
+        this.axisY = axis.get(1) / norm;
+        this.axisZ = axis.get(2) / norm;
+        this.strength = strength;
+        this.inverseRadiusSquared = 1 / (radius * radius);
+    }
+
+    @Override
+    public void apply(ParticleStore store, int start, int end, double timeElapsed) {
+        double[] px = store.getPositionX();
+        double[] py = store.getPositionY();
+        double[] pz = store.getPositionZ();
+        double[] vx = store.getVelocityX();
+        double[] vy = store.getVelocityY();
+        double[] vz = store.getVelocityZ();
+
+        double scale = strength * timeElapsed;
+
+        for(int i = start; i < end; i++) {
+            double rx = px[i] - centerX;
+            double ry = py[i] - centerY;
+            double rz = pz[i] - centerZ;
+
+            // axis x r, its length is the distance from the axis
+            double tx = axisY * rz - axisZ * ry;
+            double ty = axisZ * rx - axisX * rz;
+            double tz = axisX * ry - axisY * rx;
+
+            double factor = scale / (1 + (tx * tx + ty * ty + tz * tz) * inverseRadiusSquared);
+
+            vx[i] += tx * factor;
+            vy[i] += ty * factor;
+            vz[i] += tz * factor;
+        }
+    }
+}
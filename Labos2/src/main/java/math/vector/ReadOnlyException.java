@@ -1,7 +0,0 @@
-package math.vector;
-
-public class ReadOnlyException extends RuntimeException {
-    public ReadOnlyException() {
-        super("This vector is read only");
-    }
-}
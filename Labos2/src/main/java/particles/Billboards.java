@@ -0,0 +1,65 @@
+package particles;
+
+/**
+ * Expansion of particles into camera facing quads. The four corner directions are combined from the camera right and
+ * up axes once per call, each corner is then the particle position plus a corner direction scaled by half of the
+ * particle size, three multiply-adds per coordinate and no GL.
+ */
+public class Billboards {
+
+    public static final int CORNERS = 4;
+
+    /**
+     * x, y, z of every corner
+     */
+    public static final int FLOATS_PER_PARTICLE = CORNERS * 3;
+
+    /**
+     * Corner signs along the right and up axes, counter-clockwise from the bottom left
+     */
+    private static final double[] RIGHT_SIGNS = {-1, 1, 1, -1};
+
+    private static final double[] UP_SIGNS = {-1, -1, 1, 1};
+
+    private Billboards() {
+    }
+
+    /**
+     * Writes the corners of every particle of the store, see {@link #expand(double[], double[], double[], float[], int, int, CameraBasis, float[])}
+     */
+    public static void expand(ParticleStore store, CameraBasis camera, float[] corners) {
+        expand(store.getPositionX(), store.getPositionY(), store.getPositionZ(), store.getSizes(), 0, store.size(), camera, corners);
+    }
+
+    /**
+     * Writes the corners of particles [start, end) to corners, particle i at (i - start) * FLOATS_PER_PARTICLE,
+     * in the order bottom left, bottom right, top right, top left as seen from the camera
+     */
+    public static void expand(double[] x, double[] y, double[] z, float[] sizes, int start, int end,
+                              CameraBasis camera, float[] corners) {
+        if(corners.length < (end - start) * FLOATS_PER_PARTICLE) {
+            throw new IllegalArgumentException("Corners array must hold " + FLOATS_PER_PARTICLE + " floats per particle");
+        }
+
+        double[] offsets = new double[FLOATS_PER_PARTICLE];
+        for(int corner = 0; corner < CORNERS; corner++) {
+            offsets[corner * 3] = RIGHT_SIGNS[corner] * camera.getRightX() + UP_SIGNS[corner] * camera.getUpX();
+            offsets[corner * 3 + 1] = RIGHT_SIGNS[corner] * camera.getRightY() + UP_SIGNS[corner] * camera.getUpY();
+            offsets[corner * 3 + 2] = RIGHT_SIGNS[corner] * camera.getRightZ() + UP_SIGNS[corner] * camera.getUpZ();
+        }
+
+        int index = 0;
+        for(int i = start; i < end; i++) {
+            double half = sizes[i] * 0.5;
+            double px = x[i], py = y[i], pz = z[i];
+
+            for(int k = 0; k < FLOATS_PER_PARTICLE; k += 3) {
+                corners[index + k] = (float) (px + offsets[k] * half);
+                corners[index + k + 1] = (float) (py + offsets[k + 1] * half);
+                corners[index + k + 2] = (float) (pz + offsets[k + 2] * half);
+            }
+
+            index += FLOATS_PER_PARTICLE;
+        }
+    }
+}
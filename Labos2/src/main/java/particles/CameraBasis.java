@@ -0,0 +1,126 @@
+package particles;
+
+import math.vector.IVector;
+
+/**
+ * Eye position and orthonormal axes of the camera in world space, the same basis gluLookAt builds from eye, look at
+ * point and up vector. Computed once per frame and shared by everything drawn in it, so billboards need no readback
+ * of the modelview matrix.
+ */
+public class CameraBasis {
+
+    private double eyeX, eyeY, eyeZ;
+
+    private double rightX = 1, rightY, rightZ;
+
+    private double upX, upY = 1, upZ;
+
+    private double forwardX, forwardY, forwardZ = -1;
+
+    /**
+     * Camera at the origin looking down the negative z axis
+     */
+    public CameraBasis() {
+    }
+
+    public CameraBasis(IVector eye, IVector lookAt, IVector up) {
+        update(eye, lookAt, up);
+    }
+
+    /**
+     * Recomputes the basis in place: forward = normalized (lookAt - eye), right = normalized (forward x up) and
+     * up = right x forward
+     * @return this
+     */
+    public CameraBasis update(IVector eye, IVector lookAt, IVector up) {
+        double fX = lookAt.get(0) - eye.get(0);
+        double fY = lookAt.get(1) - eye.get(1);
+        double fZ = lookAt.get(2) - eye.get(2);
+
+        double fNorm = Math.sqrt(fX * fX + fY * fY + fZ * fZ);
+        if(fNorm == 0) {
+            throw new IllegalArgumentException("Eye and look at point must differ");
+        }
+        fX /= fNorm;
+        fY /= fNorm;
+        fZ /= fNorm;
+
+        double sX = fY * up.get(2) - fZ * up.get(1);
+        double sY = fZ * up.get(0) - fX * up.get(2);
+        double sZ = fX * up.get(1) - fY * up.get(0);
+
+        double sNorm = Math.sqrt(sX * sX + sY * sY + sZ * sZ);
+        if(sNorm == 0) {
+            throw new IllegalArgumentException("Up vector cannot be parallel to the viewing direction");
+        }
+        sX /= sNorm;
+        sY /= sNorm;
+        sZ /= sNorm;
+
+        eyeX = eye.get(0);
+        eyeY = eye.get(1);
+        eyeZ = eye.get(2);
+
+        rightX = sX;
+        rightY = sY;
+        rightZ = sZ;
+
+        upX = sY * fZ - sZ * fY;
+        upY = sZ * fX - sX * fZ;
+        upZ = sX * fY - sY * fX;
+
+        forwardX = fX;
+        forwardY = fY;
+        forwardZ = fZ;
+
+        return this;
+    }
+
+    public double getEyeX() {
+        return eyeX;
+    }
+
+    public double getEyeY() {
+        return eyeY;
+    }
+
+    public double getEyeZ() {
+        return eyeZ;
+    }
+
+    public double getRightX() {
+        return rightX;
+    }
+
+    public double getRightY() {
+        return rightY;
+    }
+
+    public double getRightZ() {
+        return rightZ;
+    }
+
+    public double getUpX() {
+        return upX;
+    }
+
+    public double getUpY() {
+        return upY;
+    }
+
+    public double getUpZ() {
+        return upZ;
+    }
+
+    public double getForwardX() {
+        return forwardX;
+    }
+
+    public double getForwardY() {
+        return forwardY;
+    }
+
+    public double getForwardZ() {
+        return forwardZ;
+    }
+}
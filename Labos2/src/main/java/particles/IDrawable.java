@@ -1,9 +1,8 @@
-package particles;
-
-import com.jogamp.opengl.GL2;
-import math.vector.IVector;
-
-public interface IDrawable {
-
-    void draw(GL2 gl, IVector eye);
-}
+package particles;
+
+import com.jogamp.opengl.GL2;
+
+public interface IDrawable {
+
+    void draw(GL2 gl, CameraBasis camera);
+}
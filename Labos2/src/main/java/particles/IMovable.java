@@ -1,6 +1,6 @@
-package particles;
-
-public interface IMovable {
-
-    void move(int timeElapsed);
-}
+package particles;
+
+public interface IMovable {
+
+    void move(int timeElapsed);
+}
@@ -0,0 +1,74 @@
+package particles;
+
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2;
+import com.jogamp.opengl.fixedfunc.GLPointerFunc;
+import com.jogamp.opengl.util.texture.Texture;
+
+/**
+ * Draws all particles of a store with a single draw call. The vertices built by {@link ParticleVertexBuilder} are
+ * streamed into one vertex buffer object every frame, the texture is bound once and the quads are drawn from the
+ * buffer by glDrawArrays.
+ */
+public class ParticleRenderer {
+
+    private ParticleVertexBuilder builder = new ParticleVertexBuilder();
+
+    private int[] vertexBuffer = new int[1];
+
+    /**
+     * Draws the particles in the current modelview space as quads facing the camera
+     */
+    public void draw(GL2 gl, ParticleStore store, Texture texture, CameraBasis camera) {
+        if(store.size() == 0) {
+            return;
+        }
+
+        int vertexCount = builder.build(store, camera);
+
+        if(vertexBuffer[0] == 0) {
+            gl.glGenBuffers(1, vertexBuffer, 0);
+        }
+
+        gl.glBindBuffer(GL.GL_ARRAY_BUFFER, vertexBuffer[0]);
+        // a new store every frame, the driver does not wait for the draw of the previous frame
+        gl.glBufferData(GL.GL_ARRAY_BUFFER, (long) vertexCount * ParticleVertexBuilder.STRIDE, builder.getBuffer(), GL2.GL_STREAM_DRAW);
+
+        gl.glEnable(GL.GL_BLEND);
+        gl.glBlendFunc(GL.GL_SRC_ALPHA, GL.GL_ONE_MINUS_SRC_ALPHA);
+
+        texture.enable(gl);
+        texture.bind(gl);
+
+        gl.glEnableClientState(GLPointerFunc.GL_VERTEX_ARRAY);
+        gl.glEnableClientState(GLPointerFunc.GL_TEXTURE_COORD_ARRAY);
+        gl.glEnableClientState(GLPointerFunc.GL_COLOR_ARRAY);
+
+        int stride = ParticleVertexBuilder.STRIDE;
+        gl.glVertexPointer(3, GL.GL_FLOAT, stride, ParticleVertexBuilder.POSITION_OFFSET * Float.BYTES);
+        gl.glTexCoordPointer(2, GL.GL_FLOAT, stride, ParticleVertexBuilder.UV_OFFSET * Float.BYTES);
+        gl.glColorPointer(4, GL.GL_FLOAT, stride, ParticleVertexBuilder.COLOR_OFFSET * Float.BYTES);
+
+        gl.glDrawArrays(GL2.GL_QUADS, 0, vertexCount);
+
+        gl.glDisableClientState(GLPointerFunc.GL_COLOR_ARRAY);
+        gl.glDisableClientState(GLPointerFunc.GL_TEXTURE_COORD_ARRAY);
+        gl.glDisableClientState(GLPointerFunc.GL_VERTEX_ARRAY);
+
+        gl.glBindBuffer(GL.GL_ARRAY_BUFFER, 0);
+    }
+
+    public ParticleVertexBuilder getBuilder() {
+        return builder;
+    }
+
+    /**
+     * Deletes the vertex buffer, must be called on the GL thread
+     */
+    public void dispose(GL2 gl) {
+        if(vertexBuffer[0] != 0) {
+            gl.glDeleteBuffers(1, vertexBuffer, 0);
+            vertexBuffer[0] = 0;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package particles;
+
+import math.vector.IVector;
+
+/**
+ * State of a particle system after one simulation tick, together with the state before it, so the renderer can draw
+ * any moment between the last two ticks. Particles change indices whenever dead ones are removed, so the previous
+ * position of every particle alive after the tick is kept next to its current one, x - v * dt for particles which
+ * lived through the whole tick and x for the ones spawned after it.
+ *
+ * Filled by the simulation thread and not modified after publication, see {@link SimulationScheduler}.
+ */
+public class ParticleSnapshot {
+
+    private int size;
+
+    /**
+     * x, y and z of every particle one after another
+     */
+    private float[] positions = new float[0];
+
+    private float[] previousPositions = new float[0];
+
+    private float[] ages = new float[0];
+
+    private float[] lifespans = new float[0];
+
+    private float[] sizes = new float[0];
+
+    private double[] systemPosition = new double[3];
+
+    private double[] previousSystemPosition = new double[3];
+
+    private float timeElapsed;
+
+    private long tick = -1;
+
+    /**
+     * Copies the state of the system, called by the simulation thread right after the system moved
+     * @param previousSystemPosition position of the system before it moved
+     */
+    void capture(ParticleSystem system, double[] previousSystemPosition, double timeElapsed, long tick) {
+        ParticleStore store = system.getStore();
+        int n = store.size();
+        ensureCapacity(n);
+
+        double[] x = store.getPositionX();
+        double[] y = store.getPositionY();
+        double[] z = store.getPositionZ();
+        double[] vx = store.getVelocityX();
+        double[] vy = store.getVelocityY();
+        double[] vz = store.getVelocityZ();
+        float[] storeAges = store.getAges();
+
+        float dt = (float) timeElapsed;
+        for(int i = 0, j = 0; i < n; i++, j += 3) {
+            positions[j] = (float) x[i];
+            positions[j + 1] = (float) y[i];
+            positions[j + 2] = (float) z[i];
+
+            // the tick moved the particle by v * dt, unless it was spawned after the integration
+            double step = storeAges[i] >= dt ? timeElapsed : 0;
+            previousPositions[j] = (float) (x[i] - vx[i] * step);
+            previousPositions[j + 1] = (float) (y[i] - vy[i] * step);
+            previousPositions[j + 2] = (float) (z[i] - vz[i] * step);
+        }
+
+        System.arraycopy(storeAges, 0, ages, 0, n);
+        System.arraycopy(store.getLifespans(), 0, lifespans, 0, n);
+        System.arraycopy(store.getSizes(), 0, sizes, 0, n);
+
+        IVector position = system.getPosition();
+        for(int i = 0; i < 3; i++) {
+            systemPosition[i] = position.get(i);
+            this.previousSystemPosition[i] = previousSystemPosition[i];
+        }
+
+        this.size = n;
+        this.timeElapsed = dt;
+        this.tick = tick;
+    }
+
+    /**
+     * Fills the store with the particles at the given moment between the previous and the last tick
+     * @param alpha 0 for the state before the last tick, 1 for the state after it
+     */
+    public void interpolate(double alpha, ParticleStore target) {
+        if(alpha < 0 || alpha > 1) {
+            throw new IllegalArgumentException("Alpha must be in range of [0, 1]");
+        }
+
+        target.setSize(size);
+
+        double[] x = target.getPositionX();
+        double[] y = target.getPositionY();
+        double[] z = target.getPositionZ();
+        float[] targetAges = target.getAges();
+
+        for(int i = 0, j = 0; i < size; i++, j += 3) {
+            x[i] = previousPositions[j] + (positions[j] - previousPositions[j]) * alpha;
+            y[i] = previousPositions[j + 1] + (positions[j + 1] - previousPositions[j + 1]) * alpha;
+            z[i] = previousPositions[j + 2] + (positions[j + 2] - previousPositions[j + 2]) * alpha;
+
+            targetAges[i] = Math.max(0, ages[i] - (float) ((1 - alpha) * timeElapsed));
+        }
+
+        System.arraycopy(lifespans, 0, target.getLifespans(), 0, size);
+        System.arraycopy(sizes, 0, target.getSizes(), 0, size);
+    }
+
+    /**
+     * Interpolated position of the system, written into out
+     */
+    public double[] interpolateSystemPosition(double alpha, double[] out) {
+        for(int i = 0; i < 3; i++) {
+            out[i] = previousSystemPosition[i] + (systemPosition[i] - previousSystemPosition[i]) * alpha;
+        }
+
+        return out;
+    }
+
+    private void ensureCapacity(int particles) {
+        if(particles <= ages.length) {
+            return;
+        }
+
+        int capacity = Math.max(particles, ages.length * 2);
+        positions = new float[3 * capacity];
+        previousPositions = new float[3 * capacity];
+        ages = new float[capacity];
+        lifespans = new float[capacity];
+        sizes = new float[capacity];
+    }
+
+    /**
+     * @return number of particles
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return index of the tick, -1 before the first one
+     */
+    public long getTick() {
+        return tick;
+    }
+}
@@ -0,0 +1,433 @@
+package particles;
+
+import functions.IForceField;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Particles of a system kept as parallel primitive arrays (structure of arrays), particle i is element i of every
+ * array. There are no per-particle objects, so moving a million particles is a few passes over contiguous memory.
+ *
+ * Dead particles are removed by moving the last particle into their place, so indices of the remaining particles
+ * change on every removal and the order of particles is not kept. Arrays returned by the getters are the live
+ * storage, only the first {@link #size()} elements are particles and the arrays are replaced when the store grows.
+ *
+ * Positions are in the space of the owning system, time is in milliseconds.
+ *
+ * In parallel mode the particles are split into chunks integrated on a fork-join pool, dead particles are then
+ * removed by a single serial pass. Every particle is integrated independently and the removal order does not depend
+ * on the chunks, so the result is the same as in serial mode.
+ */
+public class ParticleStore {
+
+    private static final int DEFAULT_CAPACITY = 64;
+
+    private static final int DEFAULT_PARTICLES_PER_TASK = 16384;
+
+    /**
+     * Particles integrated by all passes of a step before the next ones, so the arrays stay in cache between the
+     * passes of the force fields
+     */
+    private static final int BLOCK = 2048;
+
+    private double[] positionX;
+
+    private double[] positionY;
+
+    private double[] positionZ;
+
+    private double[] velocityX;
+
+    private double[] velocityY;
+
+    private double[] velocityZ;
+
+    /**
+     * Milliseconds
+     */
+    private float[] ages;
+
+    /**
+     * Milliseconds
+     */
+    private float[] lifespans;
+
+    private float[] sizes;
+
+    private int size;
+
+    /**
+     * Constant acceleration of every particle, per millisecond squared
+     */
+    private double accelerationX;
+
+    private double accelerationY;
+
+    private double accelerationZ;
+
+    /**
+     * Acceleration depending on position or velocity, on top of the constant one, null for none
+     */
+    private IForceField forceField;
+
+    private boolean parallel;
+
+    private int particlesPerTask = DEFAULT_PARTICLES_PER_TASK;
+
+    private ForkJoinPool pool = ForkJoinPool.commonPool();
+
+    public ParticleStore() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public ParticleStore(int capacity) {
+        if(capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be greater than 0");
+        }
+
+        positionX = new double[capacity];
+        positionY = new double[capacity];
+        positionZ = new double[capacity];
+        velocityX = new double[capacity];
+        velocityY = new double[capacity];
+        velocityZ = new double[capacity];
+        ages = new float[capacity];
+        lifespans = new float[capacity];
+        sizes = new float[capacity];
+    }
+
+    /**
+     * Adds a particle of age 0
+     * @return index of the new particle
+     */
+    public int add(double x, double y, double z, double vx, double vy, double vz, float lifespan, float particleSize) {
+        if(lifespan <= 0) {
+            throw new IllegalArgumentException("Lifespan must be greater than 0");
+        }
+
+        ensureCapacity(size + 1);
+
+        int index = size++;
+        positionX[index] = x;
+        positionY[index] = y;
+        positionZ[index] = z;
+        velocityX[index] = vx;
+        velocityY[index] = vy;
+        velocityZ[index] = vz;
+        ages[index] = 0;
+        lifespans[index] = lifespan;
+        sizes[index] = particleSize;
+
+        return index;
+    }
+
+    public void ensureCapacity(int capacity) {
+        if(capacity <= positionX.length) {
+            return;
+        }
+
+        int newCapacity = Math.max(capacity, positionX.length * 2);
+
+        positionX = Arrays.copyOf(positionX, newCapacity);
+        positionY = Arrays.copyOf(positionY, newCapacity);
+        positionZ = Arrays.copyOf(positionZ, newCapacity);
+        velocityX = Arrays.copyOf(velocityX, newCapacity);
+        velocityY = Arrays.copyOf(velocityY, newCapacity);
+        velocityZ = Arrays.copyOf(velocityZ, newCapacity);
+        ages = Arrays.copyOf(ages, newCapacity);
+        lifespans = Arrays.copyOf(lifespans, newCapacity);
+        sizes = Arrays.copyOf(sizes, newCapacity);
+    }
+
+    /**
+     * Removes particle index by moving the last particle into its place
+     */
+    public void remove(int index) {
+        if(index < 0 || index >= size) {
+            throw new IllegalArgumentException("Index must be in range of [0, size)");
+        }
+
+        int last = --size;
+        if(index == last) {
+            return;
+        }
+
+        positionX[index] = positionX[last];
+        positionY[index] = positionY[last];
+        positionZ[index] = positionZ[last];
+        velocityX[index] = velocityX[last];
+        velocityY[index] = velocityY[last];
+        velocityZ[index] = velocityZ[last];
+        ages[index] = ages[last];
+        lifespans[index] = lifespans[last];
+        sizes[index] = sizes[last];
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Sets the number of particles, the new ones keep whatever the arrays hold, used to copy particles in bulk
+     */
+    void setSize(int size) {
+        ensureCapacity(size);
+        this.size = size;
+    }
+
+    /**
+     * Moves every particle and removes the ones which outlived their lifespan
+     */
+    public void move(double timeElapsed) {
+        if(forceField != null) {
+            forceField.advance(timeElapsed);
+        }
+
+        int dead;
+        if(parallel == true && size > particlesPerTask) {
+            dead = pool.invoke(new IntegrateTask(timeElapsed, 0, size));
+        } else {
+            dead = integrate(timeElapsed, 0, size);
+        }
+
+        if(dead > 0) {
+            removeDead();
+        }
+    }
+
+    /**
+     * Semi-implicit Euler step of every particle, v += a * dt with the constant acceleration and the force field,
+     * x += v * dt, and ageing. Dead particles stay in the store until {@link #removeDead()}.
+     */
+    public void integrate(double timeElapsed) {
+        if(forceField != null) {
+            forceField.advance(timeElapsed);
+        }
+
+        integrate(timeElapsed, 0, size);
+    }
+
+    /**
+     * Integrates particles [start, end) block by block
+     * @return number of dead particles in the range
+     */
+    private int integrate(double timeElapsed, int start, int end) {
+        int dead = 0;
+        for(int from = start; from < end; from += BLOCK) {
+            dead += integrateBlock(timeElapsed, from, Math.min(from + BLOCK, end));
+        }
+
+        return dead;
+    }
+
+    /**
+     * Every array is a separate loop, so each loop is a single stream the JIT vectorizes
+     */
+    private int integrateBlock(double timeElapsed, int start, int end) {
+        addScaled(velocityX, accelerationX * timeElapsed, start, end);
+        addScaled(velocityY, accelerationY * timeElapsed, start, end);
+        addScaled(velocityZ, accelerationZ * timeElapsed, start, end);
+
+        if(forceField != null) {
+            forceField.apply(this, start, end, timeElapsed);
+        }
+
+        addScaled(positionX, velocityX, timeElapsed, start, end);
+        addScaled(positionY, velocityY, timeElapsed, start, end);
+        addScaled(positionZ, velocityZ, timeElapsed, start, end);
+
+        float dt = (float) timeElapsed;
+        int dead = 0;
+        for(int i = start; i < end; i++) {
+            ages[i] += dt;
+
+            if(ages[i] >= lifespans[i]) {
+                dead++;
+            }
+        }
+
+        return dead;
+    }
+
+    private static void addScaled(double[] values, double increment, int start, int end) {
+        if(increment == 0) {
+            return;
+        }
+
+        for(int i = start; i < end; i++) {
+            values[i] += increment;
+        }
+    }
+
+    private static void addScaled(double[] values, double[] rates, double timeElapsed, int start, int end) {
+        for(int i = start; i < end; i++) {
+            values[i] += rates[i] * timeElapsed;
+        }
+    }
+
+    /**
+     * Removes every particle whose age reached its lifespan
+     * @return number of removed particles
+     */
+    public int removeDead() {
+        int removed = 0;
+
+        int i = 0;
+        while(i < size) {
+            if(ages[i] >= lifespans[i]) {
+                remove(i);
+                removed++;
+            } else {
+                i++;
+            }
+        }
+
+        return removed;
+    }
+
+    public boolean isAlive(int index) {
+        return ages[index] < lifespans[index];
+    }
+
+    /**
+     * @return remaining part of the lifespan of particle index, 1 when created and 0 when dead
+     */
+    public float getLifeFraction(int index) {
+        return Math.max(0, (lifespans[index] - ages[index]) / lifespans[index]);
+    }
+
+    public void setAcceleration(double x, double y, double z) {
+        this.accelerationX = x;
+        this.accelerationY = y;
+        this.accelerationZ = z;
+    }
+
+    /**
+     * @param forceField fields acting on every particle besides the constant acceleration, null for none, see
+     * {@link functions.ForceFieldStack} to combine several
+     */
+    public void setForceField(IForceField forceField) {
+        this.forceField = forceField;
+    }
+
+    public IForceField getForceField() {
+        return forceField;
+    }
+
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    /**
+     * @param parallel true integrates chunks of {@link #getParticlesPerTask()} particles on the pool
+     */
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    public int getParticlesPerTask() {
+        return particlesPerTask;
+    }
+
+    /**
+     * @param particlesPerTask max number of particles integrated by a single fork-join task
+     */
+    public void setParticlesPerTask(int particlesPerTask) {
+        if(particlesPerTask < 1) {
+            throw new IllegalArgumentException("Number of particles per task must be at least 1");
+        }
+
+        this.particlesPerTask = particlesPerTask;
+    }
+
+    /**
+     * @param pool pool of the parallel mode, the common pool by default
+     */
+    public void setPool(ForkJoinPool pool) {
+        if(pool == null) {
+            throw new IllegalArgumentException("Argument cannot be null");
+        }
+
+        this.pool = pool;
+    }
+
+    /**
+     * @return number of particles
+     */
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return positionX.length;
+    }
+
+    public double[] getPositionX() {
+        return positionX;
+    }
+
+    public double[] getPositionY() {
+        return positionY;
+    }
+
+    public double[] getPositionZ() {
+        return positionZ;
+    }
+
+    public double[] getVelocityX() {
+        return velocityX;
+    }
+
+    public double[] getVelocityY() {
+        return velocityY;
+    }
+
+    public double[] getVelocityZ() {
+        return velocityZ;
+    }
+
+    public float[] getAges() {
+        return ages;
+    }
+
+    public float[] getLifespans() {
+        return lifespans;
+    }
+
+    public float[] getSizes() {
+        return sizes;
+    }
+
+    private class IntegrateTask extends RecursiveTask<Integer> {
+
+        private static final long serialVersionUID = 1L;
+
+        private double timeElapsed;
+
+        private int from;
+
+        private int to;
+
+        private IntegrateTask(double timeElapsed, int from, int to) {
+            this.timeElapsed = timeElapsed;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Integer compute() {
+            if(to - from <= particlesPerTask) {
+                return integrate(timeElapsed, from, to);
+            }
+
+            int middle = (from + to) >>> 1;
+            IntegrateTask left = new IntegrateTask(timeElapsed, from, middle);
+            IntegrateTask right = new IntegrateTask(timeElapsed, middle, to);
+            invokeAll(left, right);
+
+            return left.join() + right.join();
+        }
+    }
+}
@@ -1,82 +1,180 @@
-package particles;
-
-import com.jogamp.opengl.GL;
-import com.jogamp.opengl.GL2;
-import com.jogamp.opengl.util.texture.Texture;
-import math.vector.IVector;
-import models.MovableObject;
-
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
-import java.util.ListIterator;
-import java.util.function.BiFunction;
-
-public class ParticleSystem implements IDrawable, IMovable {
-
-    protected MovableObject movableObject;
-
-    private List<Particle> particles;
-
-    protected GL gl;
-
-    public ParticleSystem(MovableObject movableObject, GL gl) {
-        this.movableObject = movableObject;
-
-        this.particles = new ArrayList<>();
-        this.gl = gl;
-    }
-
-    public void addParticle(Particle particle) {
-        if(particle == null) {
-            throw new IllegalArgumentException("Argument cannot be null");
-        }
-
-        particles.add(particle);
-    }
-
-
-    public void draw(GL2 gl, IVector eye) {
-        gl.glPushMatrix();
-
-        IVector position = movableObject.getPosition();
-        gl.glTranslated(position.get(0), position.get(1), position.get(2));
-
-        ListIterator<Particle> iterator = particles.listIterator();
-
-        while(iterator.hasNext()) {
-            Particle particle = iterator.next();
-
-            particle.draw(gl, eye);
-        }
-
-        gl.glPopMatrix();
-    }
-
-
-    public void move(int timeElapsed) {
-        movableObject.move(timeElapsed);
-
-        Iterator<Particle> iterator = particles.iterator();
-
-        while(iterator.hasNext()) {
-            Particle particle = iterator.next();
-            particle.move(timeElapsed);
-
-            if(particle.isAlive() == false) {
-                iterator.remove();
-            }
-        }
-    }
-
-    public void setAccelFunction(BiFunction<IVector, Integer, IVector> accelFunction) {
-        this.movableObject.setAccelFunction(accelFunction);
-    }
-
-    /**
-     * @return number of particles
-     */
-    public int size() {
-        return particles.size();
-    }
-}
+package particles;
+
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2;
+import com.jogamp.opengl.util.texture.Texture;
+import functions.IForceField;
+import math.vector.IVector;
+import models.MovableObject;
+import textures.TextureRegion;
+
+import java.util.Random;
+import java.util.function.BiFunction;
+
+public class ParticleSystem implements IDrawable, IMovable {
+
+    protected MovableObject movableObject;
+
+    private ParticleStore store;
+
+    private ParticleRenderer renderer = new ParticleRenderer();
+
+    /**
+     * Particles interpolated from a snapshot, drawn instead of the store while a {@link SimulationScheduler} moves
+     * the system
+     */
+    private ParticleStore interpolated;
+
+    private double[] interpolatedPosition = new double[3];
+
+    /**
+     * Texture of every particle of the system
+     */
+    protected Texture texture;
+
+    protected GL gl;
+
+    /**
+     * Source of every random decision of the system, so a seeded system spawns the same particles every run
+     */
+    protected Random random = new Random();
+
+    public ParticleSystem(MovableObject movableObject, GL gl) {
+        this.movableObject = movableObject;
+
+        this.store = new ParticleStore();
+        this.gl = gl;
+    }
+
+    /**
+     * Copies position, speed, lifespan and size of the particle into the store, the particle itself is not kept.
+     * If the system has no texture yet, the texture of the particle becomes the texture of the system.
+     */
+    public void addParticle(Particle particle) {
+        if(particle == null) {
+            throw new IllegalArgumentException("Argument cannot be null");
+        }
+
+        IVector position = particle.getPosition();
+        IVector speed = particle.getSpeed();
+
+        store.add(position.get(0), position.get(1), position.get(2), speed.get(0), speed.get(1), speed.get(2),
+                particle.getLifespan(), (float) particle.getSize());
+
+        if(texture == null) {
+            texture = particle.getTexture();
+        }
+    }
+
+    /**
+     * Draws every particle as a quad facing the camera, all of them with a single draw call
+     */
+    public void draw(GL2 gl, CameraBasis camera) {
+        if(store.size() == 0 || texture == null) {
+            return;
+        }
+
+        gl.glPushMatrix();
+
+        IVector position = movableObject.getPosition();
+        gl.glTranslated(position.get(0), position.get(1), position.get(2));
+
+        renderer.draw(gl, store, texture, camera);
+
+        gl.glPopMatrix();
+    }
+
+    /**
+     * Draws the particles of the snapshot at the given moment between its two states, see {@link ParticleSnapshot}.
+     * Reads nothing the simulation thread writes, so it is safe while a {@link SimulationScheduler} moves the system.
+     */
+    public void draw(GL2 gl, CameraBasis camera, ParticleSnapshot snapshot, double alpha) {
+        if(snapshot.size() == 0 || texture == null) {
+            return;
+        }
+
+        if(interpolated == null) {
+            interpolated = new ParticleStore(snapshot.size());
+        }
+        snapshot.interpolate(alpha, interpolated);
+
+        gl.glPushMatrix();
+
+        double[] position = snapshot.interpolateSystemPosition(alpha, interpolatedPosition);
+        gl.glTranslated(position[0], position[1], position[2]);
+
+        renderer.draw(gl, interpolated, texture, camera);
+
+        gl.glPopMatrix();
+    }
+
+    /**
+     * Releases the GL resources of the system, must be called on the GL thread
+     */
+    public void dispose(GL2 gl) {
+        renderer.dispose(gl);
+    }
+
+    public void move(int timeElapsed) {
+        movableObject.move(timeElapsed);
+
+        store.move(timeElapsed);
+    }
+
+    public void setAccelFunction(BiFunction<IVector, Integer, IVector> accelFunction) {
+        this.movableObject.setAccelFunction(accelFunction);
+    }
+
+    /**
+     * @param acceleration constant acceleration of every particle, per millisecond squared
+     */
+    public void setParticleAcceleration(IVector acceleration) {
+        store.setAcceleration(acceleration.get(0), acceleration.get(1), acceleration.get(2));
+    }
+
+    /**
+     * @param forceField fields acting on every particle, see {@link ParticleStore#setForceField(IForceField)}
+     */
+    public void setForceField(IForceField forceField) {
+        store.setForceField(forceField);
+    }
+
+    public void setTexture(Texture texture) {
+        this.texture = texture;
+    }
+
+    /**
+     * Maps only the region of the texture on the particles, so systems of different effects can share one atlas
+     * texture, see {@link textures.TextureAtlas}
+     */
+    public void setTexture(Texture texture, TextureRegion region) {
+        this.texture = texture;
+        renderer.getBuilder().setTextureRegion(region.getUMin(), region.getVMin(), region.getUMax(), region.getVMax());
+    }
+
+    public void setSeed(long seed) {
+        random.setSeed(seed);
+    }
+
+    /**
+     * Integrates the particles in chunks on the fork-join pool, see {@link ParticleStore}
+     */
+    public void setParallel(boolean parallel) {
+        store.setParallel(parallel);
+    }
+
+    public IVector getPosition() {
+        return movableObject.getPosition();
+    }
+
+    public ParticleStore getStore() {
+        return store;
+    }
+
+    /**
+     * @return number of particles
+     */
+    public int size() {
+        return store.size();
+    }
+}
@@ -0,0 +1,134 @@
+package particles;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+
+/**
+ * Builds one interleaved vertex array for every particle of a store, four vertices of a camera facing quad per
+ * particle. A vertex is position (x, y, z), texture coordinates (u, v) and color (r, g, b, a) as floats, the color
+ * is white with the alpha of the remaining life, since the fixed function pipeline takes no alpha-only color.
+ *
+ * Uses no GL, the vertices are written straight into a native order direct buffer ready for upload, which is reused
+ * between frames.
+ */
+public class ParticleVertexBuilder {
+
+    public static final int POSITION_OFFSET = 0;
+
+    public static final int UV_OFFSET = 3;
+
+    public static final int COLOR_OFFSET = 5;
+
+    public static final int FLOATS_PER_VERTEX = 9;
+
+    public static final int VERTICES_PER_PARTICLE = 4;
+
+    public static final int FLOATS_PER_PARTICLE = FLOATS_PER_VERTEX * VERTICES_PER_PARTICLE;
+
+    /**
+     * Bytes between two vertices
+     */
+    public static final int STRIDE = FLOATS_PER_VERTEX * Float.BYTES;
+
+    private FloatBuffer buffer;
+
+    /**
+     * Quad corners of every particle, see {@link Billboards}
+     */
+    private float[] corners = new float[0];
+
+    private int vertexCount;
+
+    /**
+     * Part of the texture mapped on every quad
+     */
+    private float uMin = 0;
+
+    private float vMin = 0;
+
+    private float uMax = 1;
+
+    private float vMax = 1;
+
+    /**
+     * Builds the quads of every particle of the store facing the camera, see {@link Billboards}
+     * @return number of vertices
+     */
+    public int build(ParticleStore store, CameraBasis camera) {
+        int particles = store.size();
+        ensureCapacity(particles);
+
+        Billboards.expand(store, camera, corners);
+
+        FloatBuffer v = buffer;
+        float[] c = corners;
+        int index = 0;
+
+        for(int i = 0, corner = 0; i < particles; i++, corner += Billboards.FLOATS_PER_PARTICLE) {
+            float alpha = store.getLifeFraction(i);
+
+            index = vertex(v, index, c, corner, uMin, vMin, alpha);
+            index = vertex(v, index, c, corner + 3, uMax, vMin, alpha);
+            index = vertex(v, index, c, corner + 6, uMax, vMax, alpha);
+            index = vertex(v, index, c, corner + 9, uMin, vMax, alpha);
+        }
+
+        vertexCount = particles * VERTICES_PER_PARTICLE;
+
+        buffer.limit(index);
+        buffer.position(0);
+
+        return vertexCount;
+    }
+
+    private static int vertex(FloatBuffer v, int index, float[] corners, int corner, float u, float t, float alpha) {
+        v.put(index, corners[corner]);
+        v.put(index + 1, corners[corner + 1]);
+        v.put(index + 2, corners[corner + 2]);
+        v.put(index + 3, u);
+        v.put(index + 4, t);
+        v.put(index + 5, 1);
+        v.put(index + 6, 1);
+        v.put(index + 7, 1);
+        v.put(index + 8, alpha);
+
+        return index + FLOATS_PER_VERTEX;
+    }
+
+    private void ensureCapacity(int particles) {
+        if(corners.length < particles * Billboards.FLOATS_PER_PARTICLE) {
+            corners = new float[Math.max(particles, corners.length / Billboards.FLOATS_PER_PARTICLE * 2) * Billboards.FLOATS_PER_PARTICLE];
+        }
+
+        int floats = particles * FLOATS_PER_PARTICLE;
+        if(buffer != null && floats <= buffer.capacity()) {
+            buffer.limit(buffer.capacity());
+            return;
+        }
+
+        int capacity = Math.max(floats, buffer == null ? 0 : buffer.capacity() * 2);
+        buffer = ByteBuffer.allocateDirect(capacity * Float.BYTES).order(ByteOrder.nativeOrder()).asFloatBuffer();
+    }
+
+    /**
+     * Maps the given part of the texture on every quad, the whole texture by default
+     */
+    public void setTextureRegion(float uMin, float vMin, float uMax, float vMax) {
+        this.uMin = uMin;
+        this.vMin = vMin;
+        this.uMax = uMax;
+        this.vMax = vMax;
+    }
+
+    /**
+     * @return direct buffer holding the vertices of the last build, positioned at 0 with the limit at their end
+     */
+    public FloatBuffer getBuffer() {
+        return buffer;
+    }
+
+    public int getVertexCount() {
+        return vertexCount;
+    }
+}
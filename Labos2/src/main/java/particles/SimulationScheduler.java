@@ -0,0 +1,160 @@
+package particles;
+
+import math.vector.IVector;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Moves a particle system by a fixed tick on its own thread, independent of the framerate. After every tick the
+ * state of the system is published as a {@link ParticleSnapshot} through a {@link TripleBuffer}, so the renderer
+ * never waits for the simulation and never sees a system in the middle of a tick.
+ *
+ * Ticks run at a fixed rate, a late tick is followed by the missed ones back to back, so the simulated time follows
+ * the wall clock. The renderer draws one tick behind the simulation, interpolated by {@link #getAlpha()}.
+ *
+ * Once started, the system must only be moved by the scheduler and drawn from its snapshots. A tick which throws
+ * stops the simulation, the exception is then rethrown to the renderer by {@link #acquire()}.
+ */
+public class SimulationScheduler {
+
+    private ParticleSystem system;
+
+    /**
+     * Milliseconds
+     */
+    private int tick;
+
+    private TripleBuffer<ParticleSnapshot> snapshots = new TripleBuffer<>(ParticleSnapshot::new);
+
+    private ScheduledExecutorService executor;
+
+    private long ticks;
+
+    private double[] previousPosition = new double[3];
+
+    private volatile long startNanos;
+
+    /**
+     * Exception thrown by the last tick, no tick runs after it
+     */
+    private volatile Throwable failure;
+
+    /**
+     * Snapshot held by the renderer
+     */
+    private ParticleSnapshot current;
+
+    /**
+     * @param tick milliseconds of simulated time per tick
+     */
+    public SimulationScheduler(ParticleSystem system, int tick) {
+        if(system == null) {
+            throw new IllegalArgumentException("Argument cannot be null");
+        }
+        if(tick < 1) {
+            throw new IllegalArgumentException("Tick must be at least 1 millisecond");
+        }
+
+        this.system = system;
+        this.tick = tick;
+        this.current = snapshots.acquire();
+    }
+
+    public synchronized void start() {
+        if(executor != null) {
+            throw new IllegalStateException("Simulation is already running");
+        }
+
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "particle-simulation");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        failure = null;
+        startNanos = System.nanoTime();
+        executor.scheduleAtFixedRate(this::run, tick, tick, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the simulation thread and waits for the running tick to finish
+     */
+    public synchronized void stop() {
+        if(executor == null) {
+            return;
+        }
+
+        executor.shutdown();
+        try {
+            executor.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException exc) {
+            Thread.currentThread().interrupt();
+        }
+
+        executor = null;
+    }
+
+    /**
+     * Body of the scheduled task, keeps the exception of a failed tick for the renderer. The exception is thrown on,
+     * so the executor cancels the remaining ticks instead of moving a system left in the middle of one.
+     */
+    private void run() {
+        try {
+            step();
+        } catch (RuntimeException | Error exc) {
+            failure = exc;
+            throw exc;
+        }
+    }
+
+    /**
+     * Moves the system by one tick and publishes its state
+     */
+    void step() {
+        IVector position = system.getPosition();
+        for(int i = 0; i < 3; i++) {
+            previousPosition[i] = position.get(i);
+        }
+
+        system.move(tick);
+
+        snapshots.getBack().capture(system, previousPosition, tick, ticks++);
+        snapshots.publish();
+    }
+
+    /**
+     * @return latest state of the system, owned by the caller until the next call, renderer thread only
+     * @throws IllegalStateException if the simulation stopped because a tick threw, with that exception as the cause
+     */
+    public ParticleSnapshot acquire() {
+        Throwable failure = this.failure;
+        if(failure != null) {
+            throw new IllegalStateException("Simulation stopped, tick " + ticks + " failed", failure);
+        }
+
+        current = snapshots.acquire();
+        return current;
+    }
+
+    /**
+     * @return position of the current moment between the two states of the last acquired snapshot, 0 is the state
+     * before its tick and 1 the state after it
+     */
+    public double getAlpha() {
+        if(current.getTick() < 0) {
+            return 1;
+        }
+
+        // tick k was due at (k + 1) * tick after the start, the renderer is one tick behind
+        double due = startNanos + (current.getTick() + 1) * tick * 1E6;
+        double alpha = (System.nanoTime() - due) / (tick * 1E6);
+
+        return Math.min(1, Math.max(0, alpha));
+    }
+
+    public int getTick() {
+        return tick;
+    }
+}
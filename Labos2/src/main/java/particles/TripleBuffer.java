@@ -0,0 +1,67 @@
+package particles;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Lock-free hand over of values from one writer thread to one reader thread. The writer fills its back value and
+ * publishes it, the reader takes the latest published value. Three values rotate, so neither side ever waits or
+ * touches the value the other side is using, and a reader slower than the writer simply skips values.
+ *
+ * A published value is owned by the reader from {@link #acquire()} until the next acquire, the writer only gets it
+ * back after that.
+ */
+public class TripleBuffer<T> {
+
+    private static final int INDEX_MASK = 3;
+
+    /**
+     * Set in the state while the middle value was published and not yet acquired
+     */
+    private static final int FRESH = 4;
+
+    private final Object[] values = new Object[3];
+
+    /**
+     * Index of the middle value and the fresh flag
+     */
+    private final AtomicInteger state = new AtomicInteger(1);
+
+    private int back = 0;
+
+    private int front = 2;
+
+    public TripleBuffer(Supplier<T> factory) {
+        for(int i = 0; i < values.length; i++) {
+            values[i] = factory.get();
+        }
+    }
+
+    /**
+     * @return value the writer fills before publishing it
+     */
+    @SuppressWarnings("unchecked")
+    public T getBack() {
+        return (T) values[back];
+    }
+
+    /**
+     * Publishes the back value, writer only
+     */
+    public void publish() {
+        back = state.getAndSet(back | FRESH) & INDEX_MASK;
+    }
+
+    /**
+     * @return latest published value, or the value of the previous acquire when nothing new was published, reader
+     * only
+     */
+    @SuppressWarnings("unchecked")
+    public T acquire() {
+        if((state.get() & FRESH) != 0) {
+            front = state.getAndSet(front) & INDEX_MASK;
+        }
+
+        return (T) values[front];
+    }
+}
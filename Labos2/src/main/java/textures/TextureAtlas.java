@@ -0,0 +1,71 @@
+package textures;
+
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GLException;
+import com.jogamp.opengl.util.texture.Texture;
+
+import java.awt.image.BufferedImage;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Several images packed into one, see {@link TextureAtlasBuilder}. Systems drawing different images of the atlas
+ * share a single texture and differ only by texture coordinates.
+ */
+public class TextureAtlas {
+
+    private BufferedImage image;
+
+    private Map<String, TextureRegion> regions;
+
+    private Texture texture;
+
+    TextureAtlas(BufferedImage image, Map<String, TextureRegion> regions) {
+        this.image = image;
+        this.regions = regions;
+    }
+
+    public TextureRegion getRegion(String name) {
+        TextureRegion region = regions.get(name);
+        if(region == null) {
+            throw new IllegalArgumentException("Atlas has no image named " + name);
+        }
+
+        return region;
+    }
+
+    public boolean hasRegion(String name) {
+        return regions.containsKey(name);
+    }
+
+    public Set<String> getNames() {
+        return Collections.unmodifiableSet(regions.keySet());
+    }
+
+    public BufferedImage getImage() {
+        return image;
+    }
+
+    /**
+     * @return texture of the atlas without mipmaps, so neighbouring images do not bleed into each other, created on
+     * the first call which must be made with a current GL context
+     */
+    public Texture getTexture() throws GLException {
+        if(texture == null) {
+            texture = TextureCache.newTexture(image, false);
+        }
+
+        return texture;
+    }
+
+    /**
+     * Destroys the texture, must be called on the GL thread
+     */
+    public void dispose(GL gl) {
+        if(texture != null) {
+            texture.destroy(gl);
+            texture = null;
+        }
+    }
+}
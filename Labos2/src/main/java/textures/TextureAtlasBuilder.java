@@ -0,0 +1,202 @@
+package textures;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * Packs images into one atlas image. Images are sorted by height and laid out left to right on shelves, a new shelf
+ * starts when the row is full. Both sides of the atlas are powers of two.
+ *
+ * Every image is surrounded by padding filled with copies of its edge pixels, so linear filtering at the edge of a
+ * region samples the same image and not its neighbour.
+ */
+public class TextureAtlasBuilder {
+
+    private static final int DEFAULT_PADDING = 2;
+
+    private static final int DEFAULT_MAX_SIZE = 4096;
+
+    private Map<String, BufferedImage> images = new LinkedHashMap<>();
+
+    private int padding = DEFAULT_PADDING;
+
+    private int maxSize = DEFAULT_MAX_SIZE;
+
+    public TextureAtlasBuilder add(String name, BufferedImage image) {
+        if(name == null || image == null) {
+            throw new IllegalArgumentException("Arguments cannot be null");
+        }
+        if(images.containsKey(name) == true) {
+            throw new IllegalArgumentException("Atlas already has an image named " + name);
+        }
+
+        images.put(name, image);
+        return this;
+    }
+
+    /**
+     * Adds every image of the directory decoded through the cache, named by the file name without the extension
+     */
+    public TextureAtlasBuilder addDirectory(String directory, TextureCache cache) throws IOException {
+        File[] files = new File(directory).listFiles(File::isFile);
+        if(files == null) {
+            throw new IOException("Cannot list directory " + directory);
+        }
+
+        Arrays.sort(files);
+        for(File file : files) {
+            String name = file.getName();
+            int dot = name.lastIndexOf('.');
+
+            add(dot > 0 ? name.substring(0, dot) : name, cache.getImage(file.getPath()));
+        }
+
+        return this;
+    }
+
+    /**
+     * @param padding pixels between an image and the edge of its slot
+     */
+    public TextureAtlasBuilder setPadding(int padding) {
+        if(padding < 0) {
+            throw new IllegalArgumentException("Padding cannot be negative");
+        }
+
+        this.padding = padding;
+        return this;
+    }
+
+    /**
+     * @param maxSize max width and height of the atlas, GL_MAX_TEXTURE_SIZE of the target
+     */
+    public TextureAtlasBuilder setMaxSize(int maxSize) {
+        if(maxSize < 1) {
+            throw new IllegalArgumentException("Max size must be greater than 0");
+        }
+
+        this.maxSize = maxSize;
+        return this;
+    }
+
+    public TextureAtlas build() {
+        if(images.isEmpty() == true) {
+            throw new IllegalArgumentException("Atlas needs at least one image");
+        }
+
+        List<String> names = new ArrayList<>(images.keySet());
+        names.sort(Comparator.comparingInt((String name) -> images.get(name).getHeight()).reversed());
+
+        long area = 0;
+        int widest = 0;
+        for(BufferedImage image : images.values()) {
+            int slotWidth = image.getWidth() + 2 * padding;
+            area += (long) slotWidth * (image.getHeight() + 2 * padding);
+            widest = Math.max(widest, slotWidth);
+        }
+
+        // start from a square holding the area, widen until the shelves are low enough
+        int width = nextPowerOfTwo(Math.max(widest, (int) Math.ceil(Math.sqrt(area))));
+        int[] slots;
+        while((slots = pack(names, width)) == null) {
+            width *= 2;
+        }
+
+        int height = nextPowerOfTwo(slots[slots.length - 1]);
+        if(width > maxSize || height > maxSize) {
+            throw new IllegalArgumentException("Images do not fit into an atlas of " + maxSize + " x " + maxSize);
+        }
+
+        BufferedImage atlas = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = atlas.createGraphics();
+        // copy the pixels as they are, blending over the empty atlas would round partly transparent ones
+        graphics.setComposite(AlphaComposite.Src);
+        Map<String, TextureRegion> regions = new LinkedHashMap<>();
+
+        for(int i = 0; i < names.size(); i++) {
+            String name = names.get(i);
+            BufferedImage image = images.get(name);
+            int x = slots[2 * i] + padding;
+            int y = slots[2 * i + 1] + padding;
+
+            graphics.drawImage(image, x, y, null);
+            extrudeEdges(atlas, x, y, image.getWidth(), image.getHeight());
+
+            // the atlas texture has its bottom row at v = 0
+            regions.put(name, new TextureRegion((float) x / width, (float) (height - y - image.getHeight()) / height,
+                    (float) (x + image.getWidth()) / width, (float) (height - y) / height));
+        }
+
+        graphics.dispose();
+
+        return new TextureAtlas(atlas, regions);
+    }
+
+    /**
+     * Shelf packing into the given width
+     * @return x and y of the slot of every image followed by the used height, null if the shelves are taller than the
+     * max size
+     */
+    private int[] pack(List<String> names, int width) {
+        if(width > maxSize) {
+            throw new IllegalArgumentException("Images do not fit into an atlas of " + maxSize + " x " + maxSize);
+        }
+
+        int[] slots = new int[2 * names.size() + 1];
+        int x = 0;
+        int y = 0;
+        int shelfHeight = 0;
+
+        for(int i = 0; i < names.size(); i++) {
+            BufferedImage image = images.get(names.get(i));
+            int slotWidth = image.getWidth() + 2 * padding;
+            int slotHeight = image.getHeight() + 2 * padding;
+
+            if(x + slotWidth > width) {
+                x = 0;
+                y += shelfHeight;
+                shelfHeight = 0;
+            }
+
+            slots[2 * i] = x;
+            slots[2 * i + 1] = y;
+            x += slotWidth;
+            shelfHeight = Math.max(shelfHeight, slotHeight);
+        }
+
+        int usedHeight = y + shelfHeight;
+        if(usedHeight > maxSize) {
+            return null;
+        }
+
+        slots[slots.length - 1] = usedHeight;
+        return slots;
+    }
+
+    private void extrudeEdges(BufferedImage atlas, int x, int y, int width, int height) {
+        for(int p = 1; p <= padding; p++) {
+            for(int i = 0; i < width; i++) {
+                atlas.setRGB(x + i, y - p, atlas.getRGB(x + i, y));
+                atlas.setRGB(x + i, y + height - 1 + p, atlas.getRGB(x + i, y + height - 1));
+            }
+
+            for(int j = -p; j < height + p; j++) {
+                int row = Math.min(Math.max(y + j, y), y + height - 1);
+                atlas.setRGB(x - p, y + j, atlas.getRGB(x, row));
+                atlas.setRGB(x + width - 1 + p, y + j, atlas.getRGB(x + width - 1, row));
+            }
+        }
+    }
+
+    private static int nextPowerOfTwo(int value) {
+        int power = 1;
+        while(power < value) {
+            power <<= 1;
+        }
+
+        return power;
+    }
+}
@@ -0,0 +1,125 @@
+package textures;
+
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GLContext;
+import com.jogamp.opengl.GLException;
+import com.jogamp.opengl.util.texture.Texture;
+import com.jogamp.opengl.util.texture.TextureData;
+import com.jogamp.opengl.util.texture.awt.AWTTextureIO;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Decoded images and textures keyed by the canonical path of their file, so every file is read and decoded once
+ * however many particles or systems use it. Images are decoded by ImageIO, TGA images by {@link TgaReader}.
+ *
+ * Textures are created on the GL thread with the context current, like TextureIO, the row of the image bottom is at
+ * texture coordinate t = 0.
+ */
+public class TextureCache {
+
+    private static final TextureCache DEFAULT = new TextureCache();
+
+    private Map<String, BufferedImage> images = new HashMap<>();
+
+    private Map<String, Texture> textures = new HashMap<>();
+
+    /**
+     * @return cache shared by the whole application
+     */
+    public static TextureCache getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * @return decoded image of the file, the same instance for every call with the same file
+     */
+    public synchronized BufferedImage getImage(String path) throws IOException {
+        String key = key(path);
+
+        BufferedImage image = images.get(key);
+        if(image == null) {
+            image = decode(new File(key));
+            images.put(key, image);
+        }
+
+        return image;
+    }
+
+    /**
+     * @return texture of the file, created on the first call, must be called with a current GL context
+     */
+    public synchronized Texture getTexture(String path) throws IOException, GLException {
+        String key = key(path);
+
+        Texture texture = textures.get(key);
+        if(texture == null) {
+            texture = newTexture(getImage(key), true);
+            textures.put(key, texture);
+        }
+
+        return texture;
+    }
+
+    /**
+     * Destroys every texture and forgets the decoded images, must be called on the GL thread
+     */
+    public synchronized void dispose(GL gl) {
+        for(Texture texture : textures.values()) {
+            texture.destroy(gl);
+        }
+
+        textures.clear();
+        images.clear();
+    }
+
+    private static String key(String path) throws IOException {
+        if(path == null) {
+            throw new IllegalArgumentException("Argument cannot be null");
+        }
+
+        return new File(path).getCanonicalPath();
+    }
+
+    /**
+     * Decodes the image without any GL
+     */
+    public static BufferedImage decode(File file) throws IOException {
+        if(file.getName().toLowerCase().endsWith(".tga")) {
+            return TgaReader.read(file);
+        }
+
+        BufferedImage image = ImageIO.read(file);
+        if(image == null) {
+            throw new IOException("No decoder for image " + file);
+        }
+
+        return image;
+    }
+
+    /**
+     * Creates a texture with the image bottom at t = 0, the image is not modified, must be called with a current GL
+     * context
+     */
+    static Texture newTexture(BufferedImage image, boolean mipmap) throws GLException {
+        int width = image.getWidth();
+        int height = image.getHeight();
+
+        // rows are uploaded first to last, so the flipped copy puts the bottom row at t = 0
+        BufferedImage flipped = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = flipped.createGraphics();
+        graphics.drawImage(image, 0, height, width, -height, null);
+        graphics.dispose();
+
+        TextureData data = AWTTextureIO.newTextureData(GLContext.getCurrentGL().getGLProfile(), flipped, mipmap);
+        data.setMustFlipVertically(false);
+
+        return new Texture(GLContext.getCurrentGL(), data);
+    }
+}
@@ -0,0 +1,44 @@
+package textures;
+
+/**
+ * Rectangle of an atlas texture holding one image, in texture coordinates. As with a texture of the whole image,
+ * (uMin, vMin) is the bottom left corner of the image and (uMax, vMax) the top right one.
+ */
+public class TextureRegion {
+
+    private final float uMin;
+
+    private final float vMin;
+
+    private final float uMax;
+
+    private final float vMax;
+
+    public TextureRegion(float uMin, float vMin, float uMax, float vMax) {
+        this.uMin = uMin;
+        this.vMin = vMin;
+        this.uMax = uMax;
+        this.vMax = vMax;
+    }
+
+    public float getUMin() {
+        return uMin;
+    }
+
+    public float getVMin() {
+        return vMin;
+    }
+
+    public float getUMax() {
+        return uMax;
+    }
+
+    public float getVMax() {
+        return vMax;
+    }
+
+    @Override
+    public String toString() {
+        return "[" + uMin + ", " + vMin + "] - [" + uMax + ", " + vMax + "]";
+    }
+}
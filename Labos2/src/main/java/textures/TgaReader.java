@@ -0,0 +1,119 @@
+package textures;
+
+import java.awt.image.BufferedImage;
+import java.io.*;
+
+/**
+ * Reads true color and grayscale TGA images, uncompressed or run length encoded, which ImageIO does not read.
+ * Every pixel is 8 (gray), 24 (BGR) or 32 (BGRA) bits.
+ */
+class TgaReader {
+
+    private static final int TRUE_COLOR = 2;
+
+    private static final int GRAYSCALE = 3;
+
+    private static final int RLE_TRUE_COLOR = 10;
+
+    private static final int RLE_GRAYSCALE = 11;
+
+    private static final int HEADER_LENGTH = 18;
+
+    private TgaReader() {
+    }
+
+    static BufferedImage read(File file) throws IOException {
+        try(InputStream is = new BufferedInputStream(new FileInputStream(file))) {
+            return read(is);
+        }
+    }
+
+    static BufferedImage read(InputStream is) throws IOException {
+        DataInputStream in = new DataInputStream(is);
+
+        byte[] header = new byte[HEADER_LENGTH];
+        in.readFully(header);
+
+        int idLength = header[0] & 0xFF;
+        int colorMapType = header[1] & 0xFF;
+        int imageType = header[2] & 0xFF;
+        int width = (header[12] & 0xFF) | (header[13] & 0xFF) << 8;
+        int height = (header[14] & 0xFF) | (header[15] & 0xFF) << 8;
+        int bitsPerPixel = header[16] & 0xFF;
+        boolean topToBottom = (header[17] & 0x20) != 0;
+
+        if(colorMapType != 0 || (imageType != TRUE_COLOR && imageType != GRAYSCALE && imageType != RLE_TRUE_COLOR && imageType != RLE_GRAYSCALE)) {
+            throw new IOException("Only true color and grayscale TGA images without a color map are supported");
+        }
+        if(bitsPerPixel != 8 && bitsPerPixel != 24 && bitsPerPixel != 32) {
+            throw new IOException("Unsupported TGA pixel depth " + bitsPerPixel);
+        }
+        if(width == 0 || height == 0) {
+            throw new IOException("TGA image has no pixels");
+        }
+
+        in.skipBytes(idLength);
+
+        int bytesPerPixel = bitsPerPixel / 8;
+        byte[] pixels = new byte[width * height * bytesPerPixel];
+        if(imageType == RLE_TRUE_COLOR || imageType == RLE_GRAYSCALE) {
+            decodeRunLength(in, pixels, bytesPerPixel);
+        } else {
+            in.readFully(pixels);
+        }
+
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        int[] row = new int[width];
+        for(int y = 0; y < height; y++) {
+            int offset = y * width * bytesPerPixel;
+
+            for(int x = 0; x < width; x++, offset += bytesPerPixel) {
+                row[x] = argb(pixels, offset, bytesPerPixel);
+            }
+
+            // rows are stored bottom to top unless the descriptor says otherwise
+            image.setRGB(0, topToBottom == true ? y : height - 1 - y, width, 1, row, 0, width);
+        }
+
+        return image;
+    }
+
+    private static void decodeRunLength(DataInputStream in, byte[] pixels, int bytesPerPixel) throws IOException {
+        byte[] pixel = new byte[bytesPerPixel];
+
+        int offset = 0;
+        while(offset < pixels.length) {
+            int packet = in.readUnsignedByte();
+            int count = (packet & 0x7F) + 1;
+            int length = count * bytesPerPixel;
+
+            if(offset + length > pixels.length) {
+                throw new EOFException("TGA run exceeds the image");
+            }
+
+            if((packet & 0x80) != 0) {
+                in.readFully(pixel);
+                for(int i = 0; i < count; i++, offset += bytesPerPixel) {
+                    System.arraycopy(pixel, 0, pixels, offset, bytesPerPixel);
+                }
+            } else {
+                in.readFully(pixels, offset, length);
+                offset += length;
+            }
+        }
+    }
+
+    private static int argb(byte[] pixels, int offset, int bytesPerPixel) {
+        if(bytesPerPixel == 1) {
+            int gray = pixels[offset] & 0xFF;
+            return 0xFF000000 | gray << 16 | gray << 8 | gray;
+        }
+
+        int blue = pixels[offset] & 0xFF;
+        int green = pixels[offset + 1] & 0xFF;
+        int red = pixels[offset + 2] & 0xFF;
+        int alpha = bytesPerPixel == 4 ? pixels[offset + 3] & 0xFF : 0xFF;
+
+        return alpha << 24 | red << 16 | green << 8 | blue;
+    }
+}
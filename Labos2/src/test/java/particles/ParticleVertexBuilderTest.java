@@ -0,0 +1,151 @@
+package particles;
+
+import math.vector.Vector;
+import org.junit.Test;
+
+import java.nio.FloatBuffer;
+
+import static org.junit.Assert.assertEquals;
+
+public class ParticleVertexBuilderTest {
+
+    private static final float DELTA = 1e-6f;
+
+    /**
+     * Camera at the origin looking down the negative z axis, right is +x and up is +y
+     */
+    private static final CameraBasis FRONT = new CameraBasis(new Vector(new double[]{0, 0, 0}),
+            new Vector(new double[]{0, 0, -1}), new Vector(new double[]{0, 1, 0}));
+
+    /**
+     * Camera at the origin looking down the positive x axis, right is +z and up is +y
+     */
+    private static final CameraBasis SIDE = new CameraBasis(new Vector(new double[]{0, 0, 0}),
+            new Vector(new double[]{1, 0, 0}), new Vector(new double[]{0, 1, 0}));
+
+    @Test
+    public void buildsFourVerticesPerParticle() {
+        ParticleVertexBuilder builder = new ParticleVertexBuilder();
+
+        assertEquals(8, builder.build(twoParticles(), FRONT));
+        assertEquals(8, builder.getVertexCount());
+
+        FloatBuffer buffer = builder.getBuffer();
+        assertEquals(0, buffer.position());
+        assertEquals(8 * ParticleVertexBuilder.FLOATS_PER_VERTEX, buffer.limit());
+    }
+
+    @Test
+    public void cornersFaceTheCamera() {
+        ParticleVertexBuilder builder = new ParticleVertexBuilder();
+        builder.build(twoParticles(), FRONT);
+        FloatBuffer buffer = builder.getBuffer();
+
+        // size 2 around (1, 2, -3): bottom left, bottom right, top right, top left
+        assertPosition(buffer, 0, 0, 1, -3);
+        assertPosition(buffer, 1, 2, 1, -3);
+        assertPosition(buffer, 2, 2, 3, -3);
+        assertPosition(buffer, 3, 0, 3, -3);
+
+        // size 4 around (-5, 0, -10)
+        assertPosition(buffer, 4, -7, -2, -10);
+        assertPosition(buffer, 5, -3, -2, -10);
+        assertPosition(buffer, 6, -3, 2, -10);
+        assertPosition(buffer, 7, -7, 2, -10);
+
+        builder.build(twoParticles(), SIDE);
+        buffer = builder.getBuffer();
+
+        assertPosition(buffer, 0, 1, 1, -4);
+        assertPosition(buffer, 1, 1, 1, -2);
+        assertPosition(buffer, 2, 1, 3, -2);
+        assertPosition(buffer, 3, 1, 3, -4);
+    }
+
+    @Test
+    public void textureCoordinatesOfWholeTexture() {
+        ParticleVertexBuilder builder = new ParticleVertexBuilder();
+        builder.build(twoParticles(), FRONT);
+        FloatBuffer buffer = builder.getBuffer();
+
+        for(int particle = 0; particle < 2; particle++) {
+            assertUV(buffer, 4 * particle, 0, 0);
+            assertUV(buffer, 4 * particle + 1, 1, 0);
+            assertUV(buffer, 4 * particle + 2, 1, 1);
+            assertUV(buffer, 4 * particle + 3, 0, 1);
+        }
+    }
+
+    @Test
+    public void textureCoordinatesOfRegion() {
+        ParticleVertexBuilder builder = new ParticleVertexBuilder();
+        builder.setTextureRegion(0.25f, 0.5f, 0.75f, 1);
+        builder.build(twoParticles(), FRONT);
+        FloatBuffer buffer = builder.getBuffer();
+
+        assertUV(buffer, 0, 0.25f, 0.5f);
+        assertUV(buffer, 1, 0.75f, 0.5f);
+        assertUV(buffer, 2, 0.75f, 1);
+        assertUV(buffer, 3, 0.25f, 1);
+    }
+
+    @Test
+    public void colorIsWhiteWithAlphaOfRemainingLife() {
+        ParticleVertexBuilder builder = new ParticleVertexBuilder();
+        builder.build(twoParticles(), FRONT);
+        FloatBuffer buffer = builder.getBuffer();
+
+        float[] alphas = {0.75f, 0};
+        for(int vertex = 0; vertex < 8; vertex++) {
+            int index = vertex * ParticleVertexBuilder.FLOATS_PER_VERTEX + ParticleVertexBuilder.COLOR_OFFSET;
+
+            assertEquals(1, buffer.get(index), 0);
+            assertEquals(1, buffer.get(index + 1), 0);
+            assertEquals(1, buffer.get(index + 2), 0);
+            assertEquals(alphas[vertex / 4], buffer.get(index + 3), DELTA);
+        }
+    }
+
+    @Test
+    public void reusedBuilderShrinksToTheLastStore() {
+        ParticleVertexBuilder builder = new ParticleVertexBuilder();
+        builder.build(twoParticles(), FRONT);
+
+        ParticleStore store = new ParticleStore();
+        store.add(0, 0, -1, 0, 0, 0, 100, 1);
+
+        assertEquals(4, builder.build(store, FRONT));
+        assertEquals(4 * ParticleVertexBuilder.FLOATS_PER_VERTEX, builder.getBuffer().limit());
+        assertPosition(builder.getBuffer(), 0, -0.5f, -0.5f, -1);
+        assertEquals(1, builder.getBuffer().get(ParticleVertexBuilder.COLOR_OFFSET + 3), 0);
+    }
+
+    /**
+     * Particle of size 2 at (1, 2, -3) a quarter through its life and a dead particle of size 4 at (-5, 0, -10)
+     */
+    private static ParticleStore twoParticles() {
+        ParticleStore store = new ParticleStore();
+        store.add(1, 2, -3, 0, 0, 0, 400, 2);
+        store.add(-5, 0, -10, 0, 0, 0, 100, 4);
+
+        store.getAges()[0] = 100;
+        store.getAges()[1] = 150;
+
+        return store;
+    }
+
+    private static void assertPosition(FloatBuffer buffer, int vertex, float x, float y, float z) {
+        int index = vertex * ParticleVertexBuilder.FLOATS_PER_VERTEX + ParticleVertexBuilder.POSITION_OFFSET;
+
+        assertEquals("x of vertex " + vertex, x, buffer.get(index), DELTA);
+        assertEquals("y of vertex " + vertex, y, buffer.get(index + 1), DELTA);
+        assertEquals("z of vertex " + vertex, z, buffer.get(index + 2), DELTA);
+    }
+
+    private static void assertUV(FloatBuffer buffer, int vertex, float u, float v) {
+        int index = vertex * ParticleVertexBuilder.FLOATS_PER_VERTEX + ParticleVertexBuilder.UV_OFFSET;
+
+        assertEquals("u of vertex " + vertex, u, buffer.get(index), 0);
+        assertEquals("v of vertex " + vertex, v, buffer.get(index + 1), 0);
+    }
+}
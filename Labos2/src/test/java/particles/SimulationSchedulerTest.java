@@ -0,0 +1,57 @@
+package particles;
+
+import math.vector.Vector;
+import models.MovableObject;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+public class SimulationSchedulerTest {
+
+    @Test(timeout = 5000)
+    public void failedTickIsRethrownByAcquire() throws InterruptedException {
+        AtomicInteger moves = new AtomicInteger();
+        RuntimeException failure = new RuntimeException("third tick");
+
+        MovableObject object = new MovableObject(new Vector(new double[]{0, 0, 0}), new Vector(new double[]{0, 0, 0}),
+                (speed, time) -> {
+                    if(moves.incrementAndGet() == 3) {
+                        throw failure;
+                    }
+                    return speed;
+                });
+
+        SimulationScheduler simulation = new SimulationScheduler(new ParticleSystem(object, null), 1);
+        simulation.start();
+
+        try {
+            while(true) {
+                try {
+                    simulation.acquire();
+                } catch(IllegalStateException exc) {
+                    assertSame(failure, exc.getCause());
+                    break;
+                }
+
+                Thread.sleep(1);
+            }
+
+            // no tick runs after the failed one
+            Thread.sleep(20);
+            assertEquals(3, moves.get());
+
+            try {
+                simulation.acquire();
+                fail("Failure must be rethrown on every acquire");
+            } catch(IllegalStateException exc) {
+                assertSame(failure, exc.getCause());
+            }
+        } finally {
+            simulation.stop();
+        }
+    }
+}
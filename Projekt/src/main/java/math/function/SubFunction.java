@@ -1,8 +1,8 @@
-package math.function;
-
-import math.vector.IVector;
-
-public abstract class SubFunction {
-
-    public abstract double valueAt(IVector elements);
-}
+package math.function;
+
+import math.vector.IVector;
+
+public abstract class SubFunction {
+
+    public abstract double valueAt(IVector elements);
+}
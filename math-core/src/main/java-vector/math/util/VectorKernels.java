@@ -0,0 +1,148 @@
+package math.util;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Kernels on the JDK Vector API with the preferred vector width of the platform, tails shorter than a vector run
+ * as plain loops. Products and sums are separate lanewise operations rather than fused multiply-adds, which have no
+ * fast path on processors without FMA.
+ *
+ * Compiled only by the vector-api profile and loaded by {@link Kernels} when jdk.incubator.vector is resolved,
+ * e.g. with --add-modules jdk.incubator.vector.
+ */
+class VectorKernels implements IKernels {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    private static final int LANES = SPECIES.length();
+
+    @Override
+    public double dot(double[] a, int aOffset, double[] b, int bOffset, int length) {
+        // the lane reduction costs more than a short loop
+        if(length < LANES) {
+            double sum = 0;
+            for(int i = 0; i < length; i++) {
+                sum += a[aOffset + i] * b[bOffset + i];
+            }
+
+            return sum;
+        }
+
+        DoubleVector sum0 = DoubleVector.zero(SPECIES);
+        DoubleVector sum1 = DoubleVector.zero(SPECIES);
+
+        int i = 0;
+        for(; i <= length - 2 * LANES; i += 2 * LANES) {
+            DoubleVector a0 = DoubleVector.fromArray(SPECIES, a, aOffset + i);
+            DoubleVector b0 = DoubleVector.fromArray(SPECIES, b, bOffset + i);
+            DoubleVector a1 = DoubleVector.fromArray(SPECIES, a, aOffset + i + LANES);
+            DoubleVector b1 = DoubleVector.fromArray(SPECIES, b, bOffset + i + LANES);
+
+            sum0 = sum0.add(a0.mul(b0));
+            sum1 = sum1.add(a1.mul(b1));
+        }
+
+        for(; i <= length - LANES; i += LANES) {
+            DoubleVector a0 = DoubleVector.fromArray(SPECIES, a, aOffset + i);
+            DoubleVector b0 = DoubleVector.fromArray(SPECIES, b, bOffset + i);
+
+            sum0 = sum0.add(a0.mul(b0));
+        }
+
+        double sum = sum0.add(sum1).reduceLanes(VectorOperators.ADD);
+
+        for(; i < length; i++) {
+            sum += a[aOffset + i] * b[bOffset + i];
+        }
+
+        return sum;
+    }
+
+    @Override
+    public double sumOfSquares(double[] a, int offset, int length) {
+        return dot(a, offset, a, offset, length);
+    }
+
+    @Override
+    public void axpy(double alpha, double[] x, int xOffset, double[] y, int yOffset, int length) {
+        DoubleVector alphas = DoubleVector.broadcast(SPECIES, alpha);
+
+        int i = 0;
+        for(; i <= length - LANES; i += LANES) {
+            DoubleVector xs = DoubleVector.fromArray(SPECIES, x, xOffset + i);
+            DoubleVector ys = DoubleVector.fromArray(SPECIES, y, yOffset + i);
+
+            ys.add(xs.mul(alphas)).intoArray(y, yOffset + i);
+        }
+
+        for(; i < length; i++) {
+            y[yOffset + i] += alpha * x[xOffset + i];
+        }
+    }
+
+    @Override
+    public void addScaled(double[] a, int aOffset, double[] b, int bOffset, double multiplier, double[] c, int cOffset, int length) {
+        DoubleVector multipliers = DoubleVector.broadcast(SPECIES, multiplier);
+
+        int i = 0;
+        for(; i <= length - LANES; i += LANES) {
+            DoubleVector as = DoubleVector.fromArray(SPECIES, a, aOffset + i);
+            DoubleVector bs = DoubleVector.fromArray(SPECIES, b, bOffset + i);
+
+            as.add(bs.mul(multipliers)).intoArray(c, cOffset + i);
+        }
+
+        for(; i < length; i++) {
+            c[cOffset + i] = a[aOffset + i] + multiplier * b[bOffset + i];
+        }
+    }
+
+    @Override
+    public void scale(double[] a, int offset, int length, double multiplier) {
+        int i = 0;
+        for(; i <= length - LANES; i += LANES) {
+            DoubleVector.fromArray(SPECIES, a, offset + i).mul(multiplier).intoArray(a, offset + i);
+        }
+
+        for(; i < length; i++) {
+            a[offset + i] *= multiplier;
+        }
+    }
+
+    @Override
+    public void multiplyAdd4(double[] a, int aIndex, int aStride, double[] b, int bIndex,
+                             double[] c, int cIndex, int cStride, int length) {
+        double a0 = a[aIndex];
+        double a1 = a[aIndex + aStride];
+        double a2 = a[aIndex + 2 * aStride];
+        double a3 = a[aIndex + 3 * aStride];
+
+        DoubleVector v0 = DoubleVector.broadcast(SPECIES, a0);
+        DoubleVector v1 = DoubleVector.broadcast(SPECIES, a1);
+        DoubleVector v2 = DoubleVector.broadcast(SPECIES, a2);
+        DoubleVector v3 = DoubleVector.broadcast(SPECIES, a3);
+
+        int c0 = cIndex, c1 = cIndex + cStride, c2 = cIndex + 2 * cStride, c3 = cIndex + 3 * cStride;
+
+        int i = 0;
+        for(; i <= length - LANES; i += LANES) {
+            DoubleVector bs = DoubleVector.fromArray(SPECIES, b, bIndex + i);
+
+            DoubleVector.fromArray(SPECIES, c, c0 + i).add(bs.mul(v0)).intoArray(c, c0 + i);
+            DoubleVector.fromArray(SPECIES, c, c1 + i).add(bs.mul(v1)).intoArray(c, c1 + i);
+            DoubleVector.fromArray(SPECIES, c, c2 + i).add(bs.mul(v2)).intoArray(c, c2 + i);
+            DoubleVector.fromArray(SPECIES, c, c3 + i).add(bs.mul(v3)).intoArray(c, c3 + i);
+        }
+
+        for(; i < length; i++) {
+            double value = b[bIndex + i];
+
+            c[c0 + i] += a0 * value;
+            c[c1 + i] += a1 * value;
+            c[c2 + i] += a2 * value;
+            c[c3 + i] += a3 * value;
+        }
+    }
+}
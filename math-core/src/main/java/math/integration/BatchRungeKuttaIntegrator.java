@@ -0,0 +1,224 @@
+package math.integration;
+
+import math.matrix.DenseMatrix;
+import math.matrix.IMatrix;
+import math.matrix.MatrixMultiplication;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Classic Runge-Kutta method for many trajectories of the same linear system x' = A * x at once.
+ * States are the columns of an n x m matrix X, so every stage is a single matrix product K = A * X.
+ * Trajectories do not depend on each other, so the columns are split into blocks which are integrated
+ * on the common fork-join pool, every block over the whole time interval without synchronisation between steps.
+ *
+ * As in {@link RungeKuttaIntegrator}, when the integration takes long enough to pay for it the step is precomputed
+ * as a matrix P (see {@link LinearPropagator#rungeKutta(LinearSystem, double)}) and every step becomes the single
+ * product X = P * X instead of four products and seven scaled additions.
+ */
+public class BatchRungeKuttaIntegrator {
+
+    private static final int DEFAULT_COLUMNS_PER_TASK = 64;
+
+    private double step;
+
+    private int columnsPerTask = DEFAULT_COLUMNS_PER_TASK;
+
+    private boolean propagating = true;
+
+    public BatchRungeKuttaIntegrator(double step) {
+        if(step <= 0) {
+            throw new IllegalArgumentException("Integration step must be greater than 0");
+        }
+
+        this.step = step;
+    }
+
+    public double getStep() {
+        return step;
+    }
+
+    public int getColumnsPerTask() {
+        return columnsPerTask;
+    }
+
+    /**
+     * @param columnsPerTask max number of trajectories integrated by a single fork-join task
+     */
+    public BatchRungeKuttaIntegrator setColumnsPerTask(int columnsPerTask) {
+        if(columnsPerTask < 1) {
+            throw new IllegalArgumentException("Number of columns per task must be at least 1");
+        }
+
+        this.columnsPerTask = columnsPerTask;
+        return this;
+    }
+
+    public boolean isPropagating() {
+        return propagating;
+    }
+
+    /**
+     * @param propagating false to always evaluate the four stages
+     */
+    public BatchRungeKuttaIntegrator setPropagating(boolean propagating) {
+        this.propagating = propagating;
+        return this;
+    }
+
+    /**
+     * @param x0 starting states, one column per trajectory
+     * @return states at the end of integration, one column per trajectory
+     */
+    public DenseMatrix integrate(LinearSystem system, IMatrix x0, double t0, double tEnd) {
+        if(x0.getRowsCount() != system.getDimension()) {
+            throw new IllegalArgumentException("Starting states must be of the same dimension as the system");
+        }
+
+        int n = x0.getRowsCount();
+        int m = x0.getColsCount();
+        long steps = FixedStepIntegrator.numberOfSteps(t0, tEnd, step);
+
+        DenseMatrix x = DenseMatrix.copyOf(x0);
+        Buffers buffers = new Buffers(n, m);
+
+        // building the propagator costs about as much as n / m steps of the whole batch
+        DenseMatrix propagator = propagating == true && steps * m > n
+                ? LinearPropagator.rungeKuttaMatrix(system.getMatrix(), step)
+                : null;
+
+        if(m <= columnsPerTask) {
+            integrateColumns(system.getMatrix(), propagator, x, buffers, 0, m, steps);
+        } else {
+            ForkJoinPool.commonPool().invoke(new ColumnsTask(system.getMatrix(), propagator, x, buffers, 0, m, steps));
+        }
+
+        return x;
+    }
+
+    /**
+     * Integrates columns [from, to) of x, working on views of the shared stage buffers
+     * @param propagator one step as a matrix, or null to evaluate the stages
+     */
+    private void integrateColumns(DenseMatrix a, DenseMatrix propagator, DenseMatrix x, Buffers buffers, int from, int to,
+                                  long steps) {
+        int n = x.getRowsCount();
+        int width = to - from;
+
+        DenseMatrix xBlock = x.block(0, from, n, width);
+        DenseMatrix k1 = buffers.k1.block(0, from, n, width);
+
+        if(propagator != null) {
+            propagate(propagator, xBlock, k1, steps);
+            return;
+        }
+
+        DenseMatrix k2 = buffers.k2.block(0, from, n, width);
+        DenseMatrix k3 = buffers.k3.block(0, from, n, width);
+        DenseMatrix k4 = buffers.k4.block(0, from, n, width);
+        DenseMatrix stage = buffers.stage.block(0, from, n, width);
+
+        for(long i = 0; i < steps; i++) {
+            MatrixMultiplication.multiplyInto(a, xBlock, k1);
+            xBlock.addScaledInto(k1, step * 0.5, stage);
+            MatrixMultiplication.multiplyInto(a, stage, k2);
+            xBlock.addScaledInto(k2, step * 0.5, stage);
+            MatrixMultiplication.multiplyInto(a, stage, k3);
+            xBlock.addScaledInto(k3, step, stage);
+            MatrixMultiplication.multiplyInto(a, stage, k4);
+
+            xBlock.addScaledInto(k1, step / 6, xBlock);
+            xBlock.addScaledInto(k2, step / 3, xBlock);
+            xBlock.addScaledInto(k3, step / 3, xBlock);
+            xBlock.addScaledInto(k4, step / 6, xBlock);
+        }
+    }
+
+    /**
+     * Multiplies x by the propagator steps times, the product goes back and forth between x and temp
+     */
+    private static void propagate(DenseMatrix propagator, DenseMatrix x, DenseMatrix temp, long steps) {
+        DenseMatrix current = x;
+        DenseMatrix next = temp;
+
+        for(long i = 0; i < steps; i++) {
+            MatrixMultiplication.multiplyInto(propagator, current, next);
+
+            DenseMatrix swap = current;
+            current = next;
+            next = swap;
+        }
+
+        if(current != x) {
+            for(int row = 0; row < x.getRowsCount(); row++) {
+                for(int col = 0; col < x.getColsCount(); col++) {
+                    x.set(row, col, current.get(row, col));
+                }
+            }
+        }
+    }
+
+    private static class Buffers {
+
+        private DenseMatrix k1;
+
+        private DenseMatrix k2;
+
+        private DenseMatrix k3;
+
+        private DenseMatrix k4;
+
+        private DenseMatrix stage;
+
+        private Buffers(int n, int m) {
+            k1 = new DenseMatrix(n, m);
+            k2 = new DenseMatrix(n, m);
+            k3 = new DenseMatrix(n, m);
+            k4 = new DenseMatrix(n, m);
+            stage = new DenseMatrix(n, m);
+        }
+    }
+
+    private class ColumnsTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private DenseMatrix a;
+
+        private DenseMatrix propagator;
+
+        private DenseMatrix x;
+
+        private Buffers buffers;
+
+        private int from;
+
+        private int to;
+
+        private long steps;
+
+        private ColumnsTask(DenseMatrix a, DenseMatrix propagator, DenseMatrix x, Buffers buffers, int from, int to,
+                            long steps) {
+            this.a = a;
+            this.propagator = propagator;
+            this.x = x;
+            this.buffers = buffers;
+            this.from = from;
+            this.to = to;
+            this.steps = steps;
+        }
+
+        @Override
+        protected void compute() {
+            if(to - from <= columnsPerTask) {
+                integrateColumns(a, propagator, x, buffers, from, to, steps);
+                return;
+            }
+
+            int middle = (from + to) >>> 1;
+            invokeAll(new ColumnsTask(a, propagator, x, buffers, from, middle, steps),
+                    new ColumnsTask(a, propagator, x, buffers, middle, to, steps));
+        }
+    }
+}
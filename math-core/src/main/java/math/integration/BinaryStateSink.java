@@ -0,0 +1,116 @@
+package math.integration;
+
+import math.matrix.MatrixIO;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes the states in the binary format of {@link MatrixIO}, one row of dimension + 1 little-endian doubles
+ * (t followed by the state) per state, through a fixed size direct buffer. The header is reserved when the sink is
+ * created and filled in on close, when the number of states is known, so the closed file is read back by
+ * {@link MatrixIO#readBinary(Path)} as a (states x (dimension + 1)) matrix.
+ */
+public class BinaryStateSink implements IStateSink {
+
+    private static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+    private SeekableByteChannel channel;
+
+    private ByteBuffer buffer;
+
+    /**
+     * Position of the header in the channel
+     */
+    private long start;
+
+    private int rows;
+
+    private int cols;
+
+    public BinaryStateSink(SeekableByteChannel channel) throws IOException {
+        this(channel, DEFAULT_BUFFER_SIZE);
+    }
+
+    public BinaryStateSink(SeekableByteChannel channel, int bufferSize) throws IOException {
+        if(bufferSize < MatrixIO.HEADER_SIZE) {
+            throw new IllegalArgumentException("Buffer must hold at least the " + MatrixIO.HEADER_SIZE + " byte header");
+        }
+
+        this.channel = channel;
+        this.start = channel.position();
+        this.buffer = ByteBuffer.allocateDirect(bufferSize).order(ByteOrder.LITTLE_ENDIAN);
+
+        // dimensions are not known yet, the header is written again on close
+        MatrixIO.putBinaryHeader(buffer, 0, 0);
+    }
+
+    /**
+     * @param overwrite if false and the file already exists a FileAlreadyExistsException is thrown
+     */
+    public BinaryStateSink(Path path, boolean overwrite) throws IOException {
+        this(overwrite == true
+                ? FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)
+                : FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE));
+    }
+
+    @Override
+    public void accept(double t, double[] state) throws IOException {
+        if(rows == 0) {
+            cols = state.length + 1;
+        } else if(state.length + 1 != cols) {
+            throw new IllegalArgumentException("All states must have the same dimension");
+        }
+
+        put(t);
+
+        for(double value : state) {
+            put(value);
+        }
+
+        rows++;
+    }
+
+    private void put(double value) throws IOException {
+        if(buffer.remaining() < Double.BYTES) {
+            flush();
+        }
+
+        buffer.putDouble(value);
+    }
+
+    public void flush() throws IOException {
+        buffer.flip();
+
+        while(buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+
+        buffer.clear();
+    }
+
+    /**
+     * Writes the remaining states and the dimensions into the header. A sink closed without states leaves a header
+     * of 0 rows, which is not a valid matrix.
+     */
+    @Override
+    public void close() throws IOException {
+        flush();
+
+        ByteBuffer header = ByteBuffer.allocate(MatrixIO.HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        MatrixIO.putBinaryHeader(header, rows, cols);
+        header.flip();
+
+        channel.position(start);
+        while(header.hasRemaining()) {
+            channel.write(header);
+        }
+
+        channel.close();
+    }
+}
@@ -0,0 +1,45 @@
+package math.integration;
+
+import java.io.IOException;
+
+/**
+ * Passes only every period-th state to the wrapped sink, starting with the first one.
+ */
+public class DecimatingStateSink implements IStateSink {
+
+    private IStateSink sink;
+
+    private long period;
+
+    private long counter;
+
+    public DecimatingStateSink(IStateSink sink, long period) {
+        if(period < 1) {
+            throw new IllegalArgumentException("Period must be at least 1");
+        }
+
+        this.sink = sink;
+        this.period = period;
+    }
+
+    /**
+     * Decimates so that roughly numStates states of the whole integration reach the wrapped sink
+     */
+    public static DecimatingStateSink ofCount(IStateSink sink, long totalStates, long numStates) {
+        return new DecimatingStateSink(sink, Math.max(1, totalStates / Math.max(1, numStates)));
+    }
+
+    @Override
+    public void accept(double t, double[] state) throws IOException {
+        if(counter % period == 0) {
+            sink.accept(t, state);
+        }
+
+        counter++;
+    }
+
+    @Override
+    public void close() throws IOException {
+        sink.close();
+    }
+}
@@ -0,0 +1,322 @@
+package math.integration;
+
+import math.vector.IVector;
+import math.vector.Vector;
+
+import java.io.IOException;
+
+/**
+ * Adaptive Runge-Kutta method of Dormand and Prince, order 5 with an embedded order 4 error estimate.
+ * The step is accepted when the scaled error norm sqrt(1/n * sum((err_i / (atol + rtol * |x_i|))^2)) is at most 1
+ * and the next step size is chosen from that norm. The last stage of an accepted step is the first stage of the next
+ * one, so an accepted step costs 6 function evaluations.
+ *
+ * By default the sink receives the state after every accepted step. With an output step set, the sink instead receives
+ * states at t0, t0 + outputStep, ... computed by the order 4 dense output (continuous extension) of the method,
+ * so the output is evenly spaced no matter which steps were taken.
+ */
+public class DormandPrinceIntegrator implements IIntegrator {
+
+    private static final double C2 = 1d / 5, C3 = 3d / 10, C4 = 4d / 5, C5 = 8d / 9;
+
+    private static final double A21 = 1d / 5;
+    private static final double A31 = 3d / 40, A32 = 9d / 40;
+    private static final double A41 = 44d / 45, A42 = -56d / 15, A43 = 32d / 9;
+    private static final double A51 = 19372d / 6561, A52 = -25360d / 2187, A53 = 64448d / 6561, A54 = -212d / 729;
+    private static final double A61 = 9017d / 3168, A62 = -355d / 33, A63 = 46732d / 5247, A64 = 49d / 176, A65 = -5103d / 18656;
+    private static final double A71 = 35d / 384, A73 = 500d / 1113, A74 = 125d / 192, A75 = -2187d / 6784, A76 = 11d / 84;
+
+    // difference between the order 5 and the order 4 weights
+    private static final double E1 = 71d / 57600, E3 = -71d / 16695, E4 = 71d / 1920, E5 = -17253d / 339200, E6 = 22d / 525, E7 = -1d / 40;
+
+    // dense output weights
+    private static final double D1 = -12715105075d / 11282082432d, D3 = 87487479700d / 32700410799d, D4 = -10690763975d / 1880347072d,
+            D5 = 701980252875d / 199316789632d, D6 = -1453857185d / 822651844d, D7 = 69997945d / 29380423d;
+
+    private static final double SAFETY = 0.9;
+
+    private static final double MIN_FACTOR = 0.2;
+
+    private static final double MAX_FACTOR = 5;
+
+    private static final long DEFAULT_MAX_STEPS = 1000000;
+
+    private static final double OUTPUT_EPSILON = 10E-9;
+
+    private double absoluteTolerance;
+
+    private double relativeTolerance;
+
+    private double initialStep;
+
+    private double outputStep;
+
+    private long maxSteps = DEFAULT_MAX_STEPS;
+
+    private long acceptedSteps;
+
+    private long rejectedSteps;
+
+    private long evaluations;
+
+    public DormandPrinceIntegrator(double tolerance) {
+        this(tolerance, tolerance);
+    }
+
+    public DormandPrinceIntegrator(double absoluteTolerance, double relativeTolerance) {
+        if(absoluteTolerance < 0 || relativeTolerance < 0 || absoluteTolerance + relativeTolerance == 0) {
+            throw new IllegalArgumentException("Tolerances cannot be negative and at least one must be greater than 0");
+        }
+
+        this.absoluteTolerance = absoluteTolerance;
+        this.relativeTolerance = relativeTolerance;
+    }
+
+    /**
+     * @param initialStep first step size tried, 0 estimates it from the starting state and derivative
+     */
+    public DormandPrinceIntegrator setInitialStep(double initialStep) {
+        if(initialStep < 0) {
+            throw new IllegalArgumentException("Step cannot be negative");
+        }
+
+        this.initialStep = initialStep;
+        return this;
+    }
+
+    /**
+     * @param outputStep distance between states given to the sink, 0 gives the state after every accepted step
+     */
+    public DormandPrinceIntegrator setOutputStep(double outputStep) {
+        if(outputStep < 0) {
+            throw new IllegalArgumentException("Step cannot be negative");
+        }
+
+        this.outputStep = outputStep;
+        return this;
+    }
+
+    public DormandPrinceIntegrator setMaxSteps(long maxSteps) {
+        if(maxSteps < 1) {
+            throw new IllegalArgumentException("Max number of steps must be at least 1");
+        }
+
+        this.maxSteps = maxSteps;
+        return this;
+    }
+
+    @Override
+    public IVector integrate(IDerivativeFunction function, IVector x0, double t0, double tEnd, IStateSink sink) throws IOException {
+        int n = function.getDimension();
+        if(x0.getDimension() != n) {
+            throw new IllegalArgumentException("Starting state must be of the same dimension as the system");
+        }
+
+        if(tEnd < t0) {
+            throw new IllegalArgumentException("End time cannot be lesser than the starting time");
+        }
+
+        double[] x = x0.toArray();
+        double[] next = new double[n];
+        double[] stage = new double[n];
+        double[] k1 = new double[n], k2 = new double[n], k3 = new double[n], k4 = new double[n];
+        double[] k5 = new double[n], k6 = new double[n], k7 = new double[n];
+        double[] dense = new double[5 * n];
+        double[] output = new double[n];
+
+        acceptedSteps = 0;
+        rejectedSteps = 0;
+        evaluations = 0;
+
+        sink.accept(t0, x);
+        if(tEnd == t0) {
+            return new Vector(x);
+        }
+
+        evaluate(function, t0, x, k1);
+
+        double t = t0;
+        double h = initialStep > 0 ? initialStep : estimateInitialStep(x, k1);
+        h = Math.min(h, tEnd - t0);
+        long outputIndex = 1;
+        double nextOutput = t0 + outputStep;
+        boolean rejected = false;
+
+        while(t < tEnd) {
+            if(acceptedSteps + rejectedSteps >= maxSteps) {
+                throw new IllegalStateException("Max number of steps reached at t = " + t);
+            }
+
+            boolean lastStep = t + h >= tEnd;
+            if(lastStep == true) {
+                h = tEnd - t;
+            }
+
+            if(t + h == t) {
+                throw new IllegalStateException("Step size underflow at t = " + t);
+            }
+
+            for(int i = 0; i < n; i++) {
+                stage[i] = x[i] + h * A21 * k1[i];
+            }
+            evaluate(function, t + C2 * h, stage, k2);
+
+            for(int i = 0; i < n; i++) {
+                stage[i] = x[i] + h * (A31 * k1[i] + A32 * k2[i]);
+            }
+            evaluate(function, t + C3 * h, stage, k3);
+
+            for(int i = 0; i < n; i++) {
+                stage[i] = x[i] + h * (A41 * k1[i] + A42 * k2[i] + A43 * k3[i]);
+            }
+            evaluate(function, t + C4 * h, stage, k4);
+
+            for(int i = 0; i < n; i++) {
+                stage[i] = x[i] + h * (A51 * k1[i] + A52 * k2[i] + A53 * k3[i] + A54 * k4[i]);
+            }
+            evaluate(function, t + C5 * h, stage, k5);
+
+            for(int i = 0; i < n; i++) {
+                stage[i] = x[i] + h * (A61 * k1[i] + A62 * k2[i] + A63 * k3[i] + A64 * k4[i] + A65 * k5[i]);
+            }
+            evaluate(function, t + h, stage, k6);
+
+            for(int i = 0; i < n; i++) {
+                next[i] = x[i] + h * (A71 * k1[i] + A73 * k3[i] + A74 * k4[i] + A75 * k5[i] + A76 * k6[i]);
+            }
+            evaluate(function, t + h, next, k7);
+
+            double error = 0;
+            for(int i = 0; i < n; i++) {
+                double errorEstimate = h * (E1 * k1[i] + E3 * k3[i] + E4 * k4[i] + E5 * k5[i] + E6 * k6[i] + E7 * k7[i]);
+                double scale = absoluteTolerance + relativeTolerance * Math.max(Math.abs(x[i]), Math.abs(next[i]));
+
+                error += (errorEstimate / scale) * (errorEstimate / scale);
+            }
+            error = Math.sqrt(error / n);
+
+            double factor = error == 0 ? MAX_FACTOR : SAFETY * Math.pow(error, -0.2);
+
+            if(error > 1) {
+                rejectedSteps++;
+                rejected = true;
+                h *= Math.max(MIN_FACTOR, factor);
+                continue;
+            }
+
+            acceptedSteps++;
+
+            if(outputStep > 0) {
+                prepareDenseOutput(x, next, k1, k3, k4, k5, k6, k7, h, dense);
+
+                // an output point at tEnd may be computed slightly after it
+                double slack = lastStep == true ? outputStep * OUTPUT_EPSILON : 0;
+                while(nextOutput <= t + h + slack) {
+                    interpolate(dense, n, (nextOutput - t) / h, output);
+                    sink.accept(nextOutput, output);
+
+                    outputIndex++;
+                    nextOutput = t0 + outputIndex * outputStep;
+                }
+            }
+
+            t = lastStep == true ? tEnd : t + h;
+            double[] temp = x;
+            x = next;
+            next = temp;
+
+            temp = k1;
+            k1 = k7;
+            k7 = temp;
+
+            if(outputStep == 0) {
+                sink.accept(t, x);
+            }
+
+            // after a rejection the step is not allowed to grow right away
+            h *= Math.min(rejected == true ? 1 : MAX_FACTOR, Math.max(MIN_FACTOR, factor));
+            rejected = false;
+        }
+
+        return new Vector(x);
+    }
+
+    /**
+     * @return number of accepted steps of the last integration
+     */
+    public long getAcceptedSteps() {
+        return acceptedSteps;
+    }
+
+    /**
+     * @return number of rejected steps of the last integration
+     */
+    public long getRejectedSteps() {
+        return rejectedSteps;
+    }
+
+    /**
+     * @return number of evaluations of the derivative function in the last integration
+     */
+    public long getEvaluations() {
+        return evaluations;
+    }
+
+    private void evaluate(IDerivativeFunction function, double t, double[] x, double[] out) {
+        function.derivative(t, x, out);
+        evaluations++;
+    }
+
+    /**
+     * Step for which an Euler step would change the state by about 1% of its norm
+     */
+    private double estimateInitialStep(double[] x, double[] derivative) {
+        double xNorm = 0, derivativeNorm = 0;
+
+        for(int i = 0; i < x.length; i++) {
+            double scale = absoluteTolerance + relativeTolerance * Math.abs(x[i]);
+
+            xNorm += (x[i] / scale) * (x[i] / scale);
+            derivativeNorm += (derivative[i] / scale) * (derivative[i] / scale);
+        }
+
+        xNorm = Math.sqrt(xNorm / x.length);
+        derivativeNorm = Math.sqrt(derivativeNorm / x.length);
+
+        if(xNorm < 10E-5 || derivativeNorm < 10E-5) {
+            return 10E-6;
+        }
+
+        return 0.01 * xNorm / derivativeNorm;
+    }
+
+    /**
+     * Coefficients of the continuous extension over the step [t, t + h], stored as 5 consecutive blocks of n
+     */
+    private static void prepareDenseOutput(double[] x, double[] next, double[] k1, double[] k3, double[] k4, double[] k5,
+                                           double[] k6, double[] k7, double h, double[] dense) {
+        int n = x.length;
+
+        for(int i = 0; i < n; i++) {
+            double difference = next[i] - x[i];
+            double bspl = h * k1[i] - difference;
+
+            dense[i] = x[i];
+            dense[n + i] = difference;
+            dense[2 * n + i] = bspl;
+            dense[3 * n + i] = difference - h * k7[i] - bspl;
+            dense[4 * n + i] = h * (D1 * k1[i] + D3 * k3[i] + D4 * k4[i] + D5 * k5[i] + D6 * k6[i] + D7 * k7[i]);
+        }
+    }
+
+    /**
+     * State at t + theta * h, theta in [0, 1]
+     */
+    private static void interpolate(double[] dense, int n, double theta, double[] out) {
+        double theta1 = 1 - theta;
+
+        for(int i = 0; i < n; i++) {
+            out[i] = dense[i] + theta * (dense[n + i] + theta1 * (dense[2 * n + i] + theta * (dense[3 * n + i] + theta1 * dense[4 * n + i])));
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package math.integration;
+
+import math.vector.IVector;
+import math.vector.Vector;
+
+import java.io.IOException;
+
+/**
+ * Integrator with a constant integration step. State buffers are allocated once per integration and swapped
+ * between steps, so the time loop itself does not allocate.
+ */
+public abstract class FixedStepIntegrator implements IIntegrator {
+
+    private static final double STEP_COUNT_EPSILON = 10E-9;
+
+    protected double step;
+
+    public FixedStepIntegrator(double step) {
+        if(step <= 0) {
+            throw new IllegalArgumentException("Integration step must be greater than 0");
+        }
+
+        this.step = step;
+    }
+
+    public double getStep() {
+        return step;
+    }
+
+    @Override
+    public IVector integrate(IDerivativeFunction function, IVector x0, double t0, double tEnd, IStateSink sink) throws IOException {
+        if(x0.getDimension() != function.getDimension()) {
+            throw new IllegalArgumentException("Starting state must be of the same dimension as the system");
+        }
+
+        double[] x = x0.toArray();
+        double[] next = new double[x.length];
+
+        long steps = numberOfSteps(t0, tEnd);
+
+        prepare(function, steps);
+        sink.accept(t0, x);
+
+        for(long i = 0; i < steps; i++) {
+            double t = t0 + i * step;
+            step(function, t, x, next);
+
+            double[] temp = x;
+            x = next;
+            next = temp;
+
+            sink.accept(t0 + (i + 1) * step, x);
+        }
+
+        return new Vector(x);
+    }
+
+    /**
+     * Number of steps needed to reach tEnd, the last step may end slightly after it
+     */
+    public long numberOfSteps(double t0, double tEnd) {
+        return numberOfSteps(t0, tEnd, step);
+    }
+
+    public static long numberOfSteps(double t0, double tEnd, double step) {
+        return (long) Math.ceil((tEnd - t0) / step - STEP_COUNT_EPSILON);
+    }
+
+    /**
+     * Called once before the first step, allocates buffers and precomputes what depends only on the function
+     * @param steps number of steps the integration will take
+     */
+    protected abstract void prepare(IDerivativeFunction function, long steps);
+
+    /**
+     * Writes the state at t + step into next, x and next are different arrays
+     */
+    protected abstract void step(IDerivativeFunction function, double t, double[] x, double[] next);
+}
@@ -0,0 +1,14 @@
+package math.integration;
+
+/**
+ * Right hand side f(t, x) of the system x' = f(t, x).
+ */
+public interface IDerivativeFunction {
+
+    int getDimension();
+
+    /**
+     * Writes f(t, x) into out. Out is never the same array as x and the values of x must not be changed.
+     */
+    void derivative(double t, double[] x, double[] out);
+}
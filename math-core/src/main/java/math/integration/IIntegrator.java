@@ -0,0 +1,18 @@
+package math.integration;
+
+import math.vector.IVector;
+
+import java.io.IOException;
+
+/**
+ * Numerical integration of x' = f(t, x) which streams every produced state into a sink instead of keeping them.
+ */
+public interface IIntegrator {
+
+    /**
+     * Integrates from (t0, x0) to tEnd. The sink receives the starting state and then every following state,
+     * it is not closed by the integrator.
+     * @return state at the end of integration
+     */
+    IVector integrate(IDerivativeFunction function, IVector x0, double t0, double tEnd, IStateSink sink) throws IOException;
+}
@@ -0,0 +1,40 @@
+package math.integration;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Receives states while they are being produced by an integrator.
+ */
+public interface IStateSink extends Closeable {
+
+    /**
+     * The state array is reused by the integrator, it must be copied if it is needed after this call.
+     */
+    void accept(double t, double[] state) throws IOException;
+
+    @Override
+    default void close() throws IOException {
+    }
+
+    /**
+     * Sink which passes every state to all given sinks and closes all of them
+     */
+    static IStateSink combine(IStateSink... sinks) {
+        return new IStateSink() {
+            @Override
+            public void accept(double t, double[] state) throws IOException {
+                for(IStateSink sink : sinks) {
+                    sink.accept(t, state);
+                }
+            }
+
+            @Override
+            public void close() throws IOException {
+                for(IStateSink sink : sinks) {
+                    sink.close();
+                }
+            }
+        };
+    }
+}
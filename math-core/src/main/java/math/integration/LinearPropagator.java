@@ -0,0 +1,259 @@
+package math.integration;
+
+import math.matrix.DenseMatrix;
+import math.matrix.IMatrix;
+import math.matrix.LUDecomposition;
+import math.matrix.MatrixMultiplication;
+import math.vector.IVector;
+import math.vector.Vector;
+
+import java.io.IOException;
+
+/**
+ * One step state transition matrix P of a linear time invariant system x' = A * x, x(t + h) = P * x(t).
+ * Once P is computed every step is a single matrix-vector product, and a state many steps ahead is reached
+ * with O(log steps) matrix products by repeated squaring of P.
+ */
+public class LinearPropagator {
+
+    // Pade approximant degree and the norm to which A * h is scaled before it is used
+    private static final int PADE_DEGREE = 6;
+
+    private static final double SCALED_NORM = 0.5;
+
+    private DenseMatrix propagator;
+
+    private double step;
+
+    public LinearPropagator(IMatrix propagator, double step) {
+        if(propagator.getRowsCount() != propagator.getColsCount()) {
+            throw new IllegalArgumentException("Matrix must be a square matrix");
+        }
+
+        if(step <= 0) {
+            throw new IllegalArgumentException("Integration step must be greater than 0");
+        }
+
+        this.propagator = DenseMatrix.copyOf(propagator);
+        this.step = step;
+    }
+
+    /**
+     * P = I + Ah + (Ah)^2 / 2 + (Ah)^3 / 6 + (Ah)^4 / 24, for a linear system exactly one step of classic Runge-Kutta
+     */
+    public static LinearPropagator rungeKutta(LinearSystem system, double step) {
+        return new LinearPropagator(rungeKuttaMatrix(system.getMatrix(), step), step);
+    }
+
+    /**
+     * P = exp(Ah), see {@link #exponential(IMatrix)}
+     */
+    public static LinearPropagator exponential(LinearSystem system, double step) {
+        DenseMatrix ah = DenseMatrix.copyOf(system.getMatrix());
+        ah.multiplyDouble(step);
+
+        return new LinearPropagator(exponential(ah), step);
+    }
+
+    /**
+     * P = (I - Ah / 2)^-1 * (I + Ah / 2), one step of the trapeze method
+     */
+    public static LinearPropagator trapeze(LinearSystem system, double step) {
+        return new LinearPropagator(TrapezeIntegrator.transitionMatrix(system, step), step);
+    }
+
+    static DenseMatrix rungeKuttaMatrix(DenseMatrix a, double step) {
+        int n = a.getRowsCount();
+        DenseMatrix ah = DenseMatrix.copyOf(a);
+        ah.multiplyDouble(step);
+
+        // Horner form I + Ah (I + Ah / 2 (I + Ah / 3 (I + Ah / 4)))
+        DenseMatrix result = DenseMatrix.identityMatrix(n);
+        DenseMatrix temp = new DenseMatrix(n, n);
+        for(int k = 4; k >= 1; k--) {
+            MatrixMultiplication.multiplyInto(ah, result, temp);
+            temp.multiplyDouble(1d / k);
+            addIdentity(temp);
+
+            DenseMatrix swap = result;
+            result = temp;
+            temp = swap;
+        }
+
+        return result;
+    }
+
+    /**
+     * Matrix exponential by scaling and squaring: X is scaled by 2^-s so that its 1-norm is at most 0.5,
+     * exp(X / 2^s) is approximated by the diagonal Pade approximant of degree 6 and the result is squared s times.
+     */
+    public static DenseMatrix exponential(IMatrix x) {
+        if(x.getRowsCount() != x.getColsCount()) {
+            throw new IllegalArgumentException("Matrix must be a square matrix");
+        }
+
+        int n = x.getRowsCount();
+        DenseMatrix scaled = DenseMatrix.copyOf(x);
+
+        double norm = oneNorm(scaled);
+        int squarings = norm > SCALED_NORM ? (int) Math.ceil(Math.log(norm / SCALED_NORM) / Math.log(2)) : 0;
+        scaled.multiplyDouble(Math.pow(2, -squarings));
+
+        // N = sum c_k X^k, D = sum (-1)^k c_k X^k
+        DenseMatrix numerator = DenseMatrix.identityMatrix(n);
+        DenseMatrix denominator = DenseMatrix.identityMatrix(n);
+        DenseMatrix power = DenseMatrix.identityMatrix(n);
+        DenseMatrix temp = new DenseMatrix(n, n);
+        double c = 1;
+
+        for(int k = 1; k <= PADE_DEGREE; k++) {
+            c *= (double) (PADE_DEGREE - k + 1) / (k * (2 * PADE_DEGREE - k + 1));
+
+            MatrixMultiplication.multiplyInto(scaled, power, temp);
+            DenseMatrix swap = power;
+            power = temp;
+            temp = swap;
+
+            numerator.addScaledInto(power, c, numerator);
+            denominator.addScaledInto(power, k % 2 == 0 ? c : -c, denominator);
+        }
+
+        DenseMatrix result = DenseMatrix.copyOf(new LUDecomposition(denominator).solve(numerator));
+
+        for(int i = 0; i < squarings; i++) {
+            MatrixMultiplication.multiplyInto(result, result, temp);
+
+            DenseMatrix swap = result;
+            result = temp;
+            temp = swap;
+        }
+
+        return result;
+    }
+
+    public DenseMatrix getPropagator() {
+        return propagator;
+    }
+
+    public double getStep() {
+        return step;
+    }
+
+    public int getDimension() {
+        return propagator.getRowsCount();
+    }
+
+    /**
+     * Advances x0 step by step up to tEnd with one matrix-vector product per step, every state goes into the sink
+     * @return state at the end of integration
+     */
+    public IVector integrate(IVector x0, double t0, double tEnd, IStateSink sink) throws IOException {
+        checkDimension(x0);
+
+        double[] x = x0.toArray();
+        double[] next = new double[x.length];
+
+        sink.accept(t0, x);
+
+        long steps = FixedStepIntegrator.numberOfSteps(t0, tEnd, step);
+        for(long i = 0; i < steps; i++) {
+            LinearSystem.multiply(propagator, x, next);
+
+            double[] temp = x;
+            x = next;
+            next = temp;
+
+            sink.accept(t0 + (i + 1) * step, x);
+        }
+
+        return new Vector(x);
+    }
+
+    /**
+     * @return P^steps, computed with O(log steps) matrix products
+     */
+    public DenseMatrix power(long steps) {
+        if(steps < 0) {
+            throw new IllegalArgumentException("Number of steps cannot be negative");
+        }
+
+        int n = getDimension();
+        DenseMatrix result = DenseMatrix.identityMatrix(n);
+        DenseMatrix square = DenseMatrix.copyOf(propagator);
+        DenseMatrix temp = new DenseMatrix(n, n);
+
+        while(steps > 0) {
+            if((steps & 1) == 1) {
+                MatrixMultiplication.multiplyInto(result, square, temp);
+
+                DenseMatrix swap = result;
+                result = temp;
+                temp = swap;
+            }
+
+            steps >>= 1;
+            if(steps > 0) {
+                MatrixMultiplication.multiplyInto(square, square, temp);
+
+                DenseMatrix swap = square;
+                square = temp;
+                temp = swap;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * State after the given number of steps without the states in between, P^steps * x0
+     */
+    public IVector jump(IVector x0, long steps) {
+        checkDimension(x0);
+
+        double[] x = x0.toArray();
+        double[] result = new double[x.length];
+        LinearSystem.multiply(power(steps), x, result);
+
+        return new Vector(result);
+    }
+
+    /**
+     * State at time t, reached after the same number of steps {@link #integrate(IVector, double, double, IStateSink)}
+     * would take, so t is rounded up to a whole step
+     */
+    public IVector jumpTo(IVector x0, double t0, double t) {
+        if(t < t0) {
+            throw new IllegalArgumentException("Time cannot be lesser than the starting time");
+        }
+
+        return jump(x0, FixedStepIntegrator.numberOfSteps(t0, t, step));
+    }
+
+    private void checkDimension(IVector x0) {
+        if(x0.getDimension() != getDimension()) {
+            throw new IllegalArgumentException("Starting state must be of the same dimension as the system");
+        }
+    }
+
+    private static void addIdentity(DenseMatrix matrix) {
+        for(int i = 0; i < matrix.getRowsCount(); i++) {
+            matrix.set(i, i, matrix.get(i, i) + 1);
+        }
+    }
+
+    private static double oneNorm(DenseMatrix matrix) {
+        double norm = 0;
+
+        for(int col = 0; col < matrix.getColsCount(); col++) {
+            double sum = 0;
+
+            for(int row = 0; row < matrix.getRowsCount(); row++) {
+                sum += Math.abs(matrix.get(row, col));
+            }
+
+            norm = Math.max(norm, sum);
+        }
+
+        return norm;
+    }
+}
@@ -0,0 +1,53 @@
+package math.integration;
+
+import math.matrix.DenseMatrix;
+import math.matrix.IMatrix;
+
+/**
+ * Linear time invariant system x' = A * x.
+ */
+public class LinearSystem implements IDerivativeFunction {
+
+    private DenseMatrix a;
+
+    public LinearSystem(IMatrix a) {
+        if(a.getRowsCount() != a.getColsCount()) {
+            throw new IllegalArgumentException("Matrix must be a square matrix");
+        }
+
+        this.a = DenseMatrix.copyOf(a);
+    }
+
+    public DenseMatrix getMatrix() {
+        return a;
+    }
+
+    @Override
+    public int getDimension() {
+        return a.getRowsCount();
+    }
+
+    @Override
+    public void derivative(double t, double[] x, double[] out) {
+        multiply(a, x, out);
+    }
+
+    /**
+     * out = matrix * x, out must be a different array than x
+     */
+    static void multiply(DenseMatrix matrix, double[] x, double[] out) {
+        double[] elements = matrix.getElements();
+        int stride = matrix.getStride();
+        int cols = matrix.getColsCount();
+
+        for(int row = 0, index = matrix.getOffset(); row < out.length; row++, index += stride) {
+            double sum = 0;
+
+            for(int col = 0; col < cols; col++) {
+                sum += elements[index + col] * x[col];
+            }
+
+            out[row] = sum;
+        }
+    }
+}
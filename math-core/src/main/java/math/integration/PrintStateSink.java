@@ -0,0 +1,35 @@
+package math.integration;
+
+import java.io.PrintStream;
+
+/**
+ * Prints every state as "t = ..., X = [...]".
+ */
+public class PrintStateSink implements IStateSink {
+
+    private PrintStream out;
+
+    public PrintStateSink() {
+        this(System.out);
+    }
+
+    public PrintStateSink(PrintStream out) {
+        this.out = out;
+    }
+
+    @Override
+    public void accept(double t, double[] state) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("t = ").append(t).append(", X = [");
+
+        for(int i = 0; i < state.length; i++) {
+            if(i > 0) {
+                sb.append(", ");
+            }
+
+            sb.append(state[i]);
+        }
+
+        out.println(sb.append("]"));
+    }
+}
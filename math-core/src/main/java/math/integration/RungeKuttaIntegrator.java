@@ -0,0 +1,123 @@
+package math.integration;
+
+import math.matrix.DenseMatrix;
+import math.matrix.IMatrix;
+import math.matrix.SpectralEstimator;
+
+/**
+ * Classic fourth order Runge-Kutta method. For a linear system integrated over more steps than it has dimensions,
+ * the step is precomputed as a matrix (see {@link LinearPropagator#rungeKutta(LinearSystem, double)}) and every step
+ * becomes one matrix-vector product instead of four, unless turned off by {@link #setPropagating(boolean)}.
+ */
+public class RungeKuttaIntegrator extends FixedStepIntegrator {
+
+    /**
+     * Radius of a half disc in the left half-plane which lies inside the stability region of the method. The region
+     * reaches -2.785 on the real axis and +-2.83i on the imaginary axis, but its boundary comes closest to the origin
+     * at about 123 degrees, at 2.6156, so the eigenvalues there limit the radius for complex spectra.
+     */
+    private static final double STABILITY_RADIUS = 2.6;
+
+    private double[] k1;
+
+    private double[] k2;
+
+    private double[] k3;
+
+    private double[] k4;
+
+    private double[] stage;
+
+    private DenseMatrix propagator;
+
+    private boolean propagating = true;
+
+    public RungeKuttaIntegrator(double step) {
+        super(step);
+    }
+
+    public boolean isPropagating() {
+        return propagating;
+    }
+
+    /**
+     * @param propagating false to always evaluate the four stages, also for linear systems
+     */
+    public RungeKuttaIntegrator setPropagating(boolean propagating) {
+        this.propagating = propagating;
+        return this;
+    }
+
+    /**
+     * Largest step for which the method is stable on x' = A * x, from a power iteration estimate of the spectral
+     * radius of A. Meant for systems whose eigenvalues have no positive real part, where the exact solution
+     * does not grow either. The eigenvalues may be complex, h * lambda then lies in a half disc inside the stability
+     * region for every direction of lambda.
+     * @param safety factor in (0, 1] the step is multiplied with, covers the error of the estimate
+     * @return infinity if the estimate is 0
+     */
+    public static double stableStep(IMatrix a, double safety) {
+        if(safety <= 0 || safety > 1) {
+            throw new IllegalArgumentException("Safety factor must be in (0, 1]");
+        }
+
+        double spectralRadius = new SpectralEstimator().spectralRadius(a);
+        if(spectralRadius == 0) {
+            return Double.POSITIVE_INFINITY;
+        }
+
+        return safety * STABILITY_RADIUS / spectralRadius;
+    }
+
+    @Override
+    protected void prepare(IDerivativeFunction function, long steps) {
+        int n = function.getDimension();
+
+        // building the propagator costs about as much as n steps
+        if(propagating == true && function instanceof LinearSystem && steps > n) {
+            propagator = LinearPropagator.rungeKuttaMatrix(((LinearSystem) function).getMatrix(), step);
+            return;
+        }
+
+        propagator = null;
+
+        if(k1 == null || k1.length != n) {
+            k1 = new double[n];
+            k2 = new double[n];
+            k3 = new double[n];
+            k4 = new double[n];
+            stage = new double[n];
+        }
+    }
+
+    @Override
+    protected void step(IDerivativeFunction function, double t, double[] x, double[] next) {
+        if(propagator != null) {
+            LinearSystem.multiply(propagator, x, next);
+            return;
+        }
+
+        int n = x.length;
+        double halfStep = step * 0.5;
+
+        function.derivative(t, x, k1);
+        for(int i = 0; i < n; i++) {
+            stage[i] = x[i] + halfStep * k1[i];
+        }
+
+        function.derivative(t + halfStep, stage, k2);
+        for(int i = 0; i < n; i++) {
+            stage[i] = x[i] + halfStep * k2[i];
+        }
+
+        function.derivative(t + halfStep, stage, k3);
+        for(int i = 0; i < n; i++) {
+            stage[i] = x[i] + step * k3[i];
+        }
+
+        function.derivative(t + step, stage, k4);
+        for(int i = 0; i < n; i++) {
+            next[i] = x[i] + step / 6 * (k1[i] + 2 * k2[i] + 2 * k3[i] + k4[i]);
+        }
+    }
+}
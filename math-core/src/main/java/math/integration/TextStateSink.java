@@ -0,0 +1,53 @@
+package math.integration;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes states as text through a buffered writer, in the format of the old Matrix.writeToFile:
+ * "[ [ t, x0 , x1 ],\n[ t, x0 , x1 ]]". Only the writer buffer is held in memory.
+ */
+public class TextStateSink implements IStateSink {
+
+    private Writer writer;
+
+    private boolean first = true;
+
+    public TextStateSink(Writer writer) {
+        this.writer = writer instanceof BufferedWriter ? writer : new BufferedWriter(writer);
+    }
+
+    /**
+     * @param overwrite if false and the file already exists a FileAlreadyExistsException is thrown
+     */
+    public TextStateSink(Path path, boolean overwrite) throws IOException {
+        this(overwrite == true
+                ? Files.newBufferedWriter(path, StandardCharsets.UTF_8)
+                : Files.newBufferedWriter(path, StandardCharsets.UTF_8, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE));
+    }
+
+    @Override
+    public void accept(double t, double[] state) throws IOException {
+        writer.write(first == true ? "[ [ " : ",\n[ ");
+        writer.write(Double.toString(t));
+        writer.write(", ");
+
+        for(int i = 0; i < state.length; i++) {
+            writer.write(Double.toString(state[i]));
+            writer.write(i == state.length - 1 ? " ]" : " , ");
+        }
+
+        first = false;
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.write(first == true ? "[ ]" : "]");
+        writer.close();
+    }
+}
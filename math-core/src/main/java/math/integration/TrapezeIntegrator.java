@@ -0,0 +1,107 @@
+package math.integration;
+
+import math.matrix.DenseMatrix;
+import math.matrix.LUDecomposition;
+
+/**
+ * Implicit trapeze method x(t + h) = x(t) + h / 2 * (f(t, x(t)) + f(t + h, x(t + h))).
+ * For a {@link LinearSystem} the step is the precomputed matrix R = (I - A * h / 2)^-1 * (I + A * h / 2),
+ * for other functions the implicit equation is solved by fixed point iteration starting from an Euler step.
+ */
+public class TrapezeIntegrator extends FixedStepIntegrator {
+
+    private static final double DEFAULT_EPSILON = 10E-12;
+
+    private static final int DEFAULT_MAX_CORRECTIONS = 20;
+
+    private double epsilon;
+
+    private int maxCorrections;
+
+    private DenseMatrix r;
+
+    private double[] fx;
+
+    private double[] fNext;
+
+    public TrapezeIntegrator(double step) {
+        this(step, DEFAULT_EPSILON, DEFAULT_MAX_CORRECTIONS);
+    }
+
+    /**
+     * @param epsilon fixed point iteration stops when no element changes more than epsilon
+     * @param maxCorrections max number of fixed point iterations per step
+     */
+    public TrapezeIntegrator(double step, double epsilon, int maxCorrections) {
+        super(step);
+
+        if(maxCorrections < 1) {
+            throw new IllegalArgumentException("Number of corrections must be at least 1");
+        }
+
+        this.epsilon = epsilon;
+        this.maxCorrections = maxCorrections;
+    }
+
+    /**
+     * R = (I - A * h / 2)^-1 * (I + A * h / 2)
+     */
+    public static DenseMatrix transitionMatrix(LinearSystem system, double step) {
+        int n = system.getDimension();
+        DenseMatrix a = system.getMatrix();
+
+        DenseMatrix left = DenseMatrix.identityMatrix(n);
+        DenseMatrix right = DenseMatrix.identityMatrix(n);
+        left.addScaledInto(a, -step / 2, left);
+        right.addScaledInto(a, step / 2, right);
+
+        return DenseMatrix.copyOf(new LUDecomposition(left).solve(right));
+    }
+
+    @Override
+    protected void prepare(IDerivativeFunction function, long steps) {
+        int n = function.getDimension();
+
+        if(function instanceof LinearSystem) {
+            r = transitionMatrix((LinearSystem) function, step);
+            return;
+        }
+
+        r = null;
+        if(fx == null || fx.length != n) {
+            fx = new double[n];
+            fNext = new double[n];
+        }
+    }
+
+    @Override
+    protected void step(IDerivativeFunction function, double t, double[] x, double[] next) {
+        int n = x.length;
+
+        if(r != null) {
+            LinearSystem.multiply(r, x, next);
+            return;
+        }
+
+        function.derivative(t, x, fx);
+        for(int i = 0; i < n; i++) {
+            next[i] = x[i] + step * fx[i];
+        }
+
+        for(int correction = 0; correction < maxCorrections; correction++) {
+            function.derivative(t + step, next, fNext);
+
+            double change = 0;
+            for(int i = 0; i < n; i++) {
+                double corrected = x[i] + step / 2 * (fx[i] + fNext[i]);
+
+                change = Math.max(change, Math.abs(corrected - next[i]));
+                next[i] = corrected;
+            }
+
+            if(change <= epsilon) {
+                break;
+            }
+        }
+    }
+}
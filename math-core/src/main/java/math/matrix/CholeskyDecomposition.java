@@ -0,0 +1,450 @@
+package math.matrix;
+
+import math.vector.IVector;
+import math.vector.Vector;
+
+/**
+ * Cholesky factorisation A = L * L^T of a symmetric positive definite matrix. Only the lower triangle of A is read.
+ * L is kept packed row by row (row i starts at i * (i + 1) / 2), so the factor takes half the memory of a full
+ * matrix and every element of L is a dot product of two contiguous rows. The factorisation takes n^3 / 6
+ * multiply-adds, half of LU, and needs no pivot search.
+ *
+ * A matrix which is not positive definite is detected during the factorisation, {@link #isPositiveDefinite()} then
+ * returns false and solving throws. The factor can be changed for A + x * x^T or A - x * x^T in O(n^2) without
+ * factoring again, see {@link #update(IVector)} and {@link #downdate(IVector)}.
+ */
+public class CholeskyDecomposition {
+
+    /**
+     * Relative difference up to which A[i][j] and A[j][i] are considered equal when detecting symmetric matrices
+     */
+    private static final double SYMMETRY_EPSILON = 10E-13;
+
+    private static final int ROW_BLOCK = 4;
+
+    /**
+     * Up to this many right-hand sides the back substitution walks L by rows
+     */
+    private static final int NARROW_WIDTH = 16;
+
+    private double[] l;
+
+    private int size;
+
+    private boolean positiveDefinite;
+
+    public CholeskyDecomposition(IMatrix matrix) {
+        if(matrix.getRowsCount() != matrix.getColsCount()) {
+            throw new IllegalArgumentException("Matrix must be a square matrix");
+        }
+
+        this.size = matrix.getRowsCount();
+        this.l = new double[size * (size + 1) / 2];
+
+        for(int row = 0; row < size; row++) {
+            int index = start(row);
+            for(int col = 0; col <= row; col++) {
+                l[index + col] = matrix.get(row, col);
+            }
+        }
+
+        positiveDefinite = factorise();
+    }
+
+    /**
+     * Row oriented factorisation in place, L[i][j] = (A[i][j] - L[i][0:j] * L[j][0:j]) / L[j][j].
+     * Rows are computed in blocks of four: every earlier row j is read once for the whole block, and the four
+     * dot products with it are independent sums.
+     * A pivot L[i][i]^2 lesser than the default epsilon of {@link LUDecomposition} is treated as zero. It is the
+     * pivot LU without row switches would get, so both apply the same absolute bound.
+     * @return false if a pivot is not positive or lesser than that epsilon
+     */
+    private boolean factorise() {
+        for(int blockStart = 0; blockStart < size; blockStart += ROW_BLOCK) {
+            int blockEnd = Math.min(blockStart + ROW_BLOCK, size);
+
+            if(blockEnd - blockStart == ROW_BLOCK) {
+                int index0 = start(blockStart), index1 = start(blockStart + 1);
+                int index2 = start(blockStart + 2), index3 = start(blockStart + 3);
+
+                for(int j = 0; j < blockStart; j++) {
+                    int jIndex = start(j);
+                    double sum0 = 0, sum1 = 0, sum2 = 0, sum3 = 0;
+
+                    for(int k = 0; k < j; k++) {
+                        double ljk = l[jIndex + k];
+
+                        sum0 += l[index0 + k] * ljk;
+                        sum1 += l[index1 + k] * ljk;
+                        sum2 += l[index2 + k] * ljk;
+                        sum3 += l[index3 + k] * ljk;
+                    }
+
+                    double diagonal = l[jIndex + j];
+                    l[index0 + j] = (l[index0 + j] - sum0) / diagonal;
+                    l[index1 + j] = (l[index1 + j] - sum1) / diagonal;
+                    l[index2 + j] = (l[index2 + j] - sum2) / diagonal;
+                    l[index3 + j] = (l[index3 + j] - sum3) / diagonal;
+                }
+            } else {
+                for(int i = blockStart; i < blockEnd; i++) {
+                    int iIndex = start(i);
+
+                    for(int j = 0; j < blockStart; j++) {
+                        int jIndex = start(j);
+                        l[iIndex + j] = (l[iIndex + j] - dot(iIndex, jIndex, j)) / l[jIndex + j];
+                    }
+                }
+            }
+
+            // the small triangle inside the block, rows depend on each other
+            for(int i = blockStart; i < blockEnd; i++) {
+                int iIndex = start(i);
+
+                for(int j = blockStart; j < i; j++) {
+                    int jIndex = start(j);
+                    l[iIndex + j] = (l[iIndex + j] - dot(iIndex, jIndex, j)) / l[jIndex + j];
+                }
+
+                double diagonal = l[iIndex + i] - dot(iIndex, iIndex, i);
+
+                if(diagonal < LUDecomposition.EPSILON || Double.isNaN(diagonal)) {
+                    return false;
+                }
+
+                l[iIndex + i] = Math.sqrt(diagonal);
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Dot product of two packed rows over the first length elements, four independent sums so the additions
+     * do not wait on each other
+     */
+    private double dot(int aIndex, int bIndex, int length) {
+        double sum0 = 0, sum1 = 0, sum2 = 0, sum3 = 0;
+
+        int k = 0;
+        for(; k + 3 < length; k += 4) {
+            sum0 += l[aIndex + k] * l[bIndex + k];
+            sum1 += l[aIndex + k + 1] * l[bIndex + k + 1];
+            sum2 += l[aIndex + k + 2] * l[bIndex + k + 2];
+            sum3 += l[aIndex + k + 3] * l[bIndex + k + 3];
+        }
+
+        for(; k < length; k++) {
+            sum0 += l[aIndex + k] * l[bIndex + k];
+        }
+
+        return (sum0 + sum1) + (sum2 + sum3);
+    }
+
+    /**
+     * Square, symmetric and with a positive diagonal, the cheap necessary conditions for positive definiteness
+     */
+    static boolean isCandidate(IMatrix matrix) {
+        if(matrix.getRowsCount() != matrix.getColsCount()) {
+            return false;
+        }
+
+        for(int row = 0; row < matrix.getRowsCount(); row++) {
+            if(matrix.get(row, row) <= 0) {
+                return false;
+            }
+
+            for(int col = 0; col < row; col++) {
+                double lower = matrix.get(row, col);
+                double upper = matrix.get(col, row);
+
+                if(Math.abs(lower - upper) > SYMMETRY_EPSILON * Math.max(Math.abs(lower), Math.abs(upper))) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    private static int start(int row) {
+        return row * (row + 1) / 2;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * @return false if the factorisation ran into a pivot which is not positive
+     */
+    public boolean isPositiveDefinite() {
+        return positiveDefinite;
+    }
+
+    /**
+     * @return lower triangular factor L
+     */
+    public DenseMatrix getL() {
+        checkPositiveDefinite();
+
+        DenseMatrix matrix = new DenseMatrix(size, size);
+        double[] elements = matrix.getElements();
+
+        for(int row = 0; row < size; row++) {
+            System.arraycopy(l, start(row), elements, row * size, row + 1);
+        }
+
+        return matrix;
+    }
+
+    public double determinant() {
+        checkPositiveDefinite();
+
+        double determinant = 1;
+        for(int i = 0; i < size; i++) {
+            double diagonal = l[start(i) + i];
+            determinant *= diagonal * diagonal;
+        }
+
+        return determinant;
+    }
+
+    public IVector solve(IVector freeVectorB) {
+        if(freeVectorB.getDimension() != size) {
+            throw new IllegalArgumentException("Length of the vector must be equal to the dimension of the matrix");
+        }
+
+        checkPositiveDefinite();
+
+        double[] x = freeVectorB.toArray();
+        substitute(x, 1);
+
+        return new Vector(false, true, x);
+    }
+
+    /**
+     * Solves AX = B for every column of B at once.
+     * @param freeMatrixB matrix whose columns are the right-hand sides
+     * @return matrix whose columns are the solutions
+     */
+    public IMatrix solve(IMatrix freeMatrixB) {
+        if(freeMatrixB.getRowsCount() != size) {
+            throw new IllegalArgumentException("Number of rows must be equal to the dimension of the matrix");
+        }
+
+        checkPositiveDefinite();
+
+        int width = freeMatrixB.getColsCount();
+        double[] x = DenseMatrix.copyOf(freeMatrixB).getElements();
+        substitute(x, width);
+
+        return new DenseMatrix(size, width, x, true);
+    }
+
+    /**
+     * L^-1 is lower triangular and the inverse is symmetric, so only the lower triangle is computed by the substitutions
+     * (n^3 / 3 multiply-adds instead of n^3) and then mirrored
+     */
+    public IMatrix inverse() {
+        checkPositiveDefinite();
+
+        double[] x = new double[size * size];
+
+        // Y = L^-1, row i has non zero elements only up to column i
+        for(int i = 0; i < size; i++) {
+            int iIndex = start(i);
+            int index = i * size;
+            x[index + i] = 1;
+
+            for(int j = 0; j < i; j++) {
+                double factor = l[iIndex + j];
+                int jIndex = j * size;
+
+                for(int col = 0; col <= j; col++) {
+                    x[index + col] -= factor * x[jIndex + col];
+                }
+            }
+
+            scaleRow(x, index, i + 1, l[iIndex + i]);
+        }
+
+        // lower triangle of X = L^-T * Y, column c of row i only needs rows below i up to column c
+        for(int i = size - 1; i >= 0; i--) {
+            int index = i * size;
+
+            for(int j = i + 1; j < size; j++) {
+                double factor = l[start(j) + i];
+                int jIndex = j * size;
+
+                for(int col = 0; col <= i; col++) {
+                    x[index + col] -= factor * x[jIndex + col];
+                }
+            }
+
+            scaleRow(x, index, i + 1, l[start(i) + i]);
+        }
+
+        for(int row = 0; row < size; row++) {
+            for(int col = 0; col < row; col++) {
+                x[col * size + row] = x[row * size + col];
+            }
+        }
+
+        return new DenseMatrix(size, size, x, true);
+    }
+
+    private static void scaleRow(double[] x, int index, int length, double divisor) {
+        for(int col = 0; col < length; col++) {
+            x[index + col] /= divisor;
+        }
+    }
+
+    /**
+     * Changes the factorisation to the one of A + x * x^T
+     */
+    public void update(IVector x) {
+        checkPositiveDefinite();
+
+        rankOneChange(vectorToArray(x), 1);
+    }
+
+    /**
+     * Changes the factorisation to the one of A - x * x^T. If that matrix would not be positive definite an exception
+     * is thrown and the factorisation is left unchanged.
+     */
+    public void downdate(IVector x) {
+        checkPositiveDefinite();
+
+        double[] values = vectorToArray(x);
+
+        // A - x * x^T is positive definite exactly when ||L^-1 * x|| < 1
+        double[] p = values.clone();
+        forward(p, 1);
+
+        double norm = 0;
+        for(double value : p) {
+            norm += value * value;
+        }
+
+        if(norm >= 1 - SYMMETRY_EPSILON) {
+            throw new IllegalArgumentException("Matrix is not positive definite after the downdate");
+        }
+
+        rankOneChange(values, -1);
+    }
+
+    private double[] vectorToArray(IVector x) {
+        if(x.getDimension() != size) {
+            throw new IllegalArgumentException("Length of the vector must be equal to the dimension of the matrix");
+        }
+
+        return x.toArray();
+    }
+
+    /**
+     * Column by column rotation of L against x, sign 1 for an update and -1 for a downdate
+     */
+    private void rankOneChange(double[] x, int sign) {
+        for(int k = 0; k < size; k++) {
+            int kIndex = start(k) + k;
+            double diagonal = l[kIndex];
+
+            double r = Math.sqrt(diagonal * diagonal + sign * x[k] * x[k]);
+            double c = r / diagonal;
+            double s = x[k] / diagonal;
+            l[kIndex] = r;
+
+            for(int i = k + 1; i < size; i++) {
+                int index = start(i) + k;
+
+                l[index] = (l[index] + sign * s * x[i]) / c;
+                x[i] = c * x[i] - s * l[index];
+            }
+        }
+    }
+
+    /**
+     * Solves L * L^T * X = B in place, b is row-major size x width
+     */
+    private void substitute(double[] b, int width) {
+        forward(b, width);
+
+        if(width <= NARROW_WIDTH) {
+            // the right-hand sides stay in cache, so L^T is walked by contiguous rows of L and
+            // L[i][j] eliminates the solved x[i] from every row j above it
+            for(int i = size - 1; i >= 0; i--) {
+                int iIndex = start(i);
+                int index = i * width;
+
+                scaleRow(b, index, width, l[iIndex + i]);
+
+                for(int j = 0; j < i; j++) {
+                    double factor = l[iIndex + j];
+                    if(factor == 0) {
+                        continue;
+                    }
+
+                    int jIndex = j * width;
+                    for(int col = 0; col < width; col++) {
+                        b[jIndex + col] -= factor * b[index + col];
+                    }
+                }
+            }
+
+            return;
+        }
+
+        // row i of L^T is column i of L, L[j][i] for j > i, only row i of the right-hand sides is written
+        for(int i = size - 1; i >= 0; i--) {
+            int index = i * width;
+
+            for(int j = i + 1; j < size; j++) {
+                double factor = l[start(j) + i];
+                if(factor == 0) {
+                    continue;
+                }
+
+                int jIndex = j * width;
+                for(int col = 0; col < width; col++) {
+                    b[index + col] -= factor * b[jIndex + col];
+                }
+            }
+
+            scaleRow(b, index, width, l[start(i) + i]);
+        }
+    }
+
+    /**
+     * Solves L * Y = B in place
+     */
+    private void forward(double[] b, int width) {
+        for(int i = 0; i < size; i++) {
+            int iIndex = start(i);
+            int index = i * width;
+
+            for(int j = 0; j < i; j++) {
+                double factor = l[iIndex + j];
+                if(factor == 0) {
+                    continue;
+                }
+
+                int jIndex = j * width;
+                for(int col = 0; col < width; col++) {
+                    b[index + col] -= factor * b[jIndex + col];
+                }
+            }
+
+            double diagonal = l[iIndex + i];
+            for(int col = 0; col < width; col++) {
+                b[index + col] /= diagonal;
+            }
+        }
+    }
+
+    private void checkPositiveDefinite() {
+        if(positiveDefinite == false) {
+            throw new IllegalArgumentException("Matrix is not positive definite");
+        }
+    }
+}
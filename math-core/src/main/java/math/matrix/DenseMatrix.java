@@ -0,0 +1,306 @@
+package math.matrix;
+
+import math.util.Kernels;
+
+import java.util.Arrays;
+
+/**
+ * Dense matrix stored row-major in a single contiguous array. Element [row][col] is at
+ * offset + row * stride + col, so a block of a larger matrix can share its storage.
+ * Rows and columns are only permuted physically, there is no index indirection.
+ */
+public class DenseMatrix extends AbstractMatrix {
+
+    private double[] elements;
+
+    private int rows;
+
+    private int cols;
+
+    private int offset;
+
+    private int stride;
+
+    public DenseMatrix(int rows, int cols) {
+        if(rows < 1 || cols < 1) {
+            throw new IllegalArgumentException("Number columns and rows cannot be lower than 1");
+        }
+
+        this.elements = new double[rows * cols];
+        this.rows = rows;
+        this.cols = cols;
+        this.offset = 0;
+        this.stride = cols;
+    }
+
+    /**
+     * @param elements row-major elements, length must be rows * cols
+     * @param elementsAvailable if true given array is used as storage, otherwise it is copied
+     */
+    public DenseMatrix(int rows, int cols, double[] elements, boolean elementsAvailable) {
+        if(rows < 1 || cols < 1) {
+            throw new IllegalArgumentException("Number columns and rows cannot be lower than 1");
+        }
+
+        if(elements.length != rows * cols) {
+            throw new IllegalArgumentException("Given number of rows and columns must correspond to the size of given elements");
+        }
+
+        if(elementsAvailable == true) {
+            this.elements = elements;
+        } else {
+            this.elements = Arrays.copyOf(elements, elements.length);
+        }
+
+        this.rows = rows;
+        this.cols = cols;
+        this.offset = 0;
+        this.stride = cols;
+    }
+
+    /**
+     * Live view over a part of the given storage.
+     */
+    public DenseMatrix(int rows, int cols, double[] elements, int offset, int stride) {
+        if(rows < 1 || cols < 1) {
+            throw new IllegalArgumentException("Number columns and rows cannot be lower than 1");
+        }
+
+        if(stride < cols || offset < 0 || offset + (rows - 1) * stride + cols > elements.length) {
+            throw new IllegalArgumentException("Given offset and stride exceed the size of given elements");
+        }
+
+        this.elements = elements;
+        this.rows = rows;
+        this.cols = cols;
+        this.offset = offset;
+        this.stride = stride;
+    }
+
+    public DenseMatrix(double[][] elements) {
+        this(elements.length, elements[0].length);
+
+        for(int row = 0; row < rows; row++) {
+            if(elements[row].length != cols) {
+                throw new IllegalArgumentException("All rows must have an equal number of elements");
+            }
+
+            System.arraycopy(elements[row], 0, this.elements, row * stride, cols);
+        }
+    }
+
+    /**
+     * Copies any matrix into dense storage, dense matrices are copied with a single array copy per row.
+     */
+    public static DenseMatrix copyOf(IMatrix matrix) {
+        DenseMatrix dense = new DenseMatrix(matrix.getRowsCount(), matrix.getColsCount());
+
+        if(matrix instanceof DenseMatrix) {
+            copy((DenseMatrix) matrix, dense);
+
+        } else {
+            int index = 0;
+            for(int row = 0; row < dense.rows; row++) {
+                for(int col = 0; col < dense.cols; col++) {
+                    dense.elements[index++] = matrix.get(row, col);
+                }
+            }
+        }
+
+        return dense;
+    }
+
+    public static DenseMatrix identityMatrix(int dimensions) {
+        DenseMatrix matrix = new DenseMatrix(dimensions, dimensions);
+
+        for(int i = 0; i < dimensions; i++) {
+            matrix.elements[i * matrix.stride + i] = 1;
+        }
+
+        return matrix;
+    }
+
+    @Override
+    public int getRowsCount() {
+        return rows;
+    }
+
+    @Override
+    public int getColsCount() {
+        return cols;
+    }
+
+    public double[] getElements() {
+        return elements;
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    public int getStride() {
+        return stride;
+    }
+
+    /**
+     * @return true if the elements occupy the whole backing array without gaps
+     */
+    public boolean isContiguous() {
+        return offset == 0 && stride == cols && elements.length == rows * cols;
+    }
+
+    @Override
+    public double get(int row, int column) {
+        if(row < 0 || row >= rows || column < 0 || column >= cols) {
+            throw new IllegalArgumentException("Row or column index is lesser than zero or exceeds the max row or column");
+        }
+
+        return elements[offset + row * stride + column];
+    }
+
+    @Override
+    public IMatrix set(int row, int column, double value) {
+        if(row < 0 || row >= rows || column < 0 || column >= cols) {
+            throw new IllegalArgumentException("Row or column index is lesser than zero or exceeds the max row or column");
+        }
+
+        elements[offset + row * stride + column] = value;
+
+        return this;
+    }
+
+    /**
+     * Live view of the block starting at [row][col], changes are visible in this matrix.
+     */
+    public DenseMatrix block(int row, int col, int blockRows, int blockCols) {
+        if(row < 0 || col < 0 || row + blockRows > rows || col + blockCols > cols) {
+            throw new IllegalArgumentException("Block exceeds the size of the matrix");
+        }
+
+        return new DenseMatrix(blockRows, blockCols, elements, offset + row * stride + col, stride);
+    }
+
+    public void switchRows(int row1, int row2) {
+        if(row1 < 0 || row1 >= rows || row2 < 0 || row2 >= rows) {
+            throw new IllegalArgumentException("Row index is lesser than zero or exceeds the max row");
+        }
+
+        if(row1 == row2) {
+            return;
+        }
+
+        int index1 = offset + row1 * stride;
+        int index2 = offset + row2 * stride;
+        for(int col = 0; col < cols; col++) {
+            double temp = elements[index1 + col];
+            elements[index1 + col] = elements[index2 + col];
+            elements[index2 + col] = temp;
+        }
+    }
+
+    public void switchCols(int col1, int col2) {
+        if(col1 < 0 || col1 >= cols || col2 < 0 || col2 >= cols) {
+            throw new IllegalArgumentException("Column index is lesser than zero or exceeds the max column");
+        }
+
+        if(col1 == col2) {
+            return;
+        }
+
+        for(int row = 0, index = offset; row < rows; row++, index += stride) {
+            double temp = elements[index + col1];
+            elements[index + col1] = elements[index + col2];
+            elements[index + col2] = temp;
+        }
+    }
+
+    /**
+     * Reorders rows so that row i of the result is row permutation[i] of the current matrix.
+     */
+    public DenseMatrix permuteRows(int[] permutation) {
+        if(permutation.length != rows) {
+            throw new IllegalArgumentException("Permutation must have an index for every row");
+        }
+
+        double[] permuted = new double[rows * cols];
+        for(int row = 0; row < rows; row++) {
+            System.arraycopy(elements, offset + permutation[row] * stride, permuted, row * cols, cols);
+        }
+
+        for(int row = 0; row < rows; row++) {
+            System.arraycopy(permuted, row * cols, elements, offset + row * stride, cols);
+        }
+
+        return this;
+    }
+
+    @Override
+    public IMatrix copy() {
+        return copyOf(this);
+    }
+
+    @Override
+    public IMatrix newInstance(int rows, int columns) {
+        return new DenseMatrix(rows, columns);
+    }
+
+    @Override
+    public double[][] toArray() {
+        double[][] array = new double[rows][cols];
+
+        for(int row = 0; row < rows; row++) {
+            System.arraycopy(elements, offset + row * stride, array[row], 0, cols);
+        }
+
+        return array;
+    }
+
+    /**
+     * Copies elements of from into to, matrices must be of same sizes
+     */
+    static void copy(DenseMatrix from, DenseMatrix to) {
+        for(int row = 0; row < from.rows; row++) {
+            System.arraycopy(from.elements, from.offset + row * from.stride, to.elements, to.offset + row * to.stride, from.cols);
+        }
+    }
+
+    static DenseMatrix transpose(DenseMatrix matrix) {
+        DenseMatrix result = new DenseMatrix(matrix.cols, matrix.rows);
+        double[] a = matrix.elements;
+        double[] c = result.elements;
+
+        for(int row = 0; row < matrix.rows; row++) {
+            int aIndex = matrix.offset + row * matrix.stride;
+            for(int col = 0, cIndex = row; col < matrix.cols; col++, cIndex += result.stride) {
+                c[cIndex] = a[aIndex + col];
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * c = a + multiplier * b, element-wise, c may be the same matrix as a or b
+     */
+    static void addScaled(DenseMatrix a, DenseMatrix b, double multiplier, DenseMatrix c) {
+        double[] aElements = a.elements;
+        double[] bElements = b.elements;
+        double[] cElements = c.elements;
+
+        for(int row = 0; row < a.rows; row++) {
+            int aIndex = a.offset + row * a.stride;
+            int bIndex = b.offset + row * b.stride;
+            int cIndex = c.offset + row * c.stride;
+
+            Kernels.addScaled(aElements, aIndex, bElements, bIndex, multiplier, cElements, cIndex, a.cols);
+        }
+    }
+
+    static void scale(DenseMatrix matrix, double multiplier) {
+        double[] elements = matrix.elements;
+
+        for(int row = 0; row < matrix.rows; row++) {
+            Kernels.scale(elements, matrix.offset + row * matrix.stride, matrix.cols, multiplier);
+        }
+    }
+}
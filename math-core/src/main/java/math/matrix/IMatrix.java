@@ -0,0 +1,146 @@
+package math.matrix;
+
+import math.vector.IVector;
+
+public interface IMatrix {
+
+    int getRowsCount();
+
+    int getColsCount();
+
+    double get(int row, int column);
+
+    IMatrix set(int row, int column, double value);
+
+    IMatrix copy();
+
+    IMatrix newInstance(int rows, int columns);
+
+    IMatrix nTranspose(boolean liveView);
+
+    IMatrix add(IMatrix other);
+
+    IMatrix nAdd(IMatrix other);
+
+    IMatrix sub(IMatrix other);
+
+    IMatrix nSub(IMatrix other);
+
+    IMatrix nMultiply(IMatrix other);
+
+    double determinant();
+
+    LUDecomposition luDecomposition();
+
+    CholeskyDecomposition choleskyDecomposition();
+
+    QRDecomposition qrDecomposition();
+
+    SingularValueDecomposition singularValueDecomposition();
+
+    SymmetricEigenDecomposition symmetricEigenDecomposition();
+
+    IMatrix subMatrix(int row, int column, boolean liveView);
+
+    IMatrix nInvert();
+
+    double[][] toArray();
+
+    IVector toVector(boolean liveView);
+
+    IMatrix multiplyDouble(double multiplier);
+
+    IMatrix nMultiplyDouble(double multiplier);
+
+    IMatrix rotate(IVector angleVector);
+
+    IMatrix translate(IVector translationVector);
+
+    /**
+     * out = this + other, out may be this or other
+     */
+    default IMatrix addInto(IMatrix other, IMatrix out) {
+        return addScaledInto(other, 1, out);
+    }
+
+    /**
+     * out = this - other, out may be this or other
+     */
+    default IMatrix subInto(IMatrix other, IMatrix out) {
+        return addScaledInto(other, -1, out);
+    }
+
+    /**
+     * out = this + multiplier * other, out may be this or other
+     */
+    default IMatrix addScaledInto(IMatrix other, double multiplier, IMatrix out) {
+        if(this.getRowsCount() != other.getRowsCount() || this.getColsCount() != other.getColsCount()) {
+            throw new IllegalArgumentException("Matrices must be of same dimensions");
+        }
+
+        if(this.getRowsCount() != out.getRowsCount() || this.getColsCount() != out.getColsCount()) {
+            throw new IllegalArgumentException("Result matrix must be of same dimensions");
+        }
+
+        for(int row = 0; row < out.getRowsCount(); row++) {
+            for(int col = 0; col < out.getColsCount(); col++) {
+                out.set(row, col, this.get(row, col) + multiplier * other.get(row, col));
+            }
+        }
+
+        return out;
+    }
+
+    /**
+     * out = this * other, see {@link MatrixMultiplication#multiplyInto(IMatrix, IMatrix, IMatrix)}
+     */
+    default IMatrix multiplyInto(IMatrix other, IMatrix out) {
+        return MatrixMultiplication.multiplyInto(this, other, out);
+    }
+
+    /**
+     * out = multiplier * this, out may be this
+     */
+    default IMatrix multiplyDoubleInto(double multiplier, IMatrix out) {
+        if(this.getRowsCount() != out.getRowsCount() || this.getColsCount() != out.getColsCount()) {
+            throw new IllegalArgumentException("Result matrix must be of same dimensions");
+        }
+
+        for(int row = 0; row < out.getRowsCount(); row++) {
+            for(int col = 0; col < out.getColsCount(); col++) {
+                out.set(row, col, this.get(row, col) * multiplier);
+            }
+        }
+
+        return out;
+    }
+
+    /**
+     * Writes the transposed matrix into out, if out is this the matrix must be square and is transposed in place
+     */
+    default IMatrix transposeInto(IMatrix out) {
+        if(out.getRowsCount() != this.getColsCount() || out.getColsCount() != this.getRowsCount()) {
+            throw new IllegalArgumentException("Result matrix must be of size cols x rows");
+        }
+
+        if(out == this) {
+            for(int row = 0; row < this.getRowsCount(); row++) {
+                for(int col = row + 1; col < this.getColsCount(); col++) {
+                    double temp = this.get(row, col);
+                    this.set(row, col, this.get(col, row));
+                    this.set(col, row, temp);
+                }
+            }
+
+            return this;
+        }
+
+        for(int row = 0; row < this.getRowsCount(); row++) {
+            for(int col = 0; col < this.getColsCount(); col++) {
+                out.set(col, row, this.get(row, col));
+            }
+        }
+
+        return out;
+    }
+}
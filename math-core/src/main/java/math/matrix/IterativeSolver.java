@@ -0,0 +1,324 @@
+package math.matrix;
+
+import math.util.Kernels;
+import math.vector.IVector;
+import math.vector.Vector;
+
+/**
+ * Krylov solvers for Ax = b which only need products of the matrix with a vector, so the matrix is never
+ * factored or densified. Meant for large {@link SparseMatrix} systems, but any IMatrix works.
+ * Iteration stops when ||b - Ax|| <= tolerance * ||b||, statistics of the last solve are kept in the solver.
+ */
+public class IterativeSolver {
+
+    private static final double DEFAULT_TOLERANCE = 10E-10;
+
+    private static final int DEFAULT_MAX_ITERATIONS = 10000;
+
+    private double tolerance;
+
+    private int maxIterations;
+
+    private int iterations;
+
+    private double residualNorm;
+
+    private boolean converged;
+
+    public IterativeSolver() {
+        this(DEFAULT_TOLERANCE, DEFAULT_MAX_ITERATIONS);
+    }
+
+    /**
+     * @param tolerance relative residual norm at which the iteration stops
+     */
+    public IterativeSolver(double tolerance, int maxIterations) {
+        if(tolerance <= 0 || maxIterations < 1) {
+            throw new IllegalArgumentException("Tolerance and max number of iterations must be greater than 0");
+        }
+
+        this.tolerance = tolerance;
+        this.maxIterations = maxIterations;
+    }
+
+    public IVector conjugateGradient(IMatrix matrix, IVector b) {
+        return conjugateGradient(matrix, b, null);
+    }
+
+    /**
+     * Conjugate gradient method for symmetric positive definite matrices, preconditioned with the main diagonal
+     * (Jacobi) when all diagonal elements are positive.
+     * @param x0 starting point, null starts from the zero vector
+     */
+    public IVector conjugateGradient(IMatrix matrix, IVector b, IVector x0) {
+        int n = checkDimensions(matrix, b, x0);
+
+        double[] x = startingPoint(x0, n);
+        double[] r = residual(matrix, b, x);
+        double[] inverseDiagonal = jacobiPreconditioner(matrix);
+        double[] z = new double[n];
+        double[] p = new double[n];
+        double[] ap = new double[n];
+
+        double bNorm = norm(b.toArray());
+        precondition(inverseDiagonal, r, z);
+        System.arraycopy(z, 0, p, 0, n);
+        double rz = dot(r, z);
+
+        reset(norm(r));
+        while(isDone(bNorm) == false) {
+            multiply(matrix, p, ap);
+
+            double pAp = dot(p, ap);
+            if(pAp <= 0) {
+                throw new IllegalArgumentException("Matrix is not positive definite");
+            }
+
+            double alpha = rz / pAp;
+            Kernels.axpy(alpha, p, 0, x, 0, n);
+            Kernels.axpy(-alpha, ap, 0, r, 0, n);
+
+            iterations++;
+            residualNorm = norm(r);
+
+            precondition(inverseDiagonal, r, z);
+            double rzNew = dot(r, z);
+            double beta = rzNew / rz;
+            Kernels.addScaled(z, 0, p, 0, beta, p, 0, n);
+
+            rz = rzNew;
+        }
+
+        return new Vector(x);
+    }
+
+    public IVector biCGStab(IMatrix matrix, IVector b) {
+        return biCGStab(matrix, b, null);
+    }
+
+    /**
+     * Stabilized biconjugate gradient method (van der Vorst) for general non symmetric matrices.
+     * On a breakdown (rho, rHat * v or omega equal to zero or not finite) the current approximation is returned and
+     * {@link #hasConverged()} is false.
+     * @param x0 starting point, null starts from the zero vector
+     */
+    public IVector biCGStab(IMatrix matrix, IVector b, IVector x0) {
+        int n = checkDimensions(matrix, b, x0);
+
+        double[] x = startingPoint(x0, n);
+        double[] r = residual(matrix, b, x);
+        double[] rHat = r.clone();
+        double[] p = new double[n];
+        double[] v = new double[n];
+        double[] s = new double[n];
+        double[] t = new double[n];
+
+        double bNorm = norm(b.toArray());
+        double rho = 1, alpha = 1, omega = 1;
+
+        reset(norm(r));
+        while(isDone(bNorm) == false) {
+            double rhoNew = dot(rHat, r);
+            if(isBreakdown(rhoNew) == true) {
+                break;
+            }
+
+            double beta = (rhoNew / rho) * (alpha / omega);
+            for(int i = 0; i < n; i++) {
+                p[i] = r[i] + beta * (p[i] - omega * v[i]);
+            }
+
+            multiply(matrix, p, v);
+            double rHatV = dot(rHat, v);
+            if(isBreakdown(rHatV) == true) {
+                break;
+            }
+
+            alpha = rhoNew / rHatV;
+            Kernels.addScaled(r, 0, v, 0, -alpha, s, 0, n);
+
+            iterations++;
+            residualNorm = norm(s);
+            if(residualNorm <= tolerance * bNorm) {
+                Kernels.axpy(alpha, p, 0, x, 0, n);
+
+                converged = true;
+                break;
+            }
+
+            multiply(matrix, s, t);
+            double tt = dot(t, t);
+            if(isBreakdown(tt) == true) {
+                // the half step is the best approximation so far, its residual is s
+                Kernels.axpy(alpha, p, 0, x, 0, n);
+                break;
+            }
+
+            omega = dot(t, s) / tt;
+            for(int i = 0; i < n; i++) {
+                x[i] += alpha * p[i] + omega * s[i];
+                r[i] = s[i] - omega * t[i];
+            }
+
+            residualNorm = norm(r);
+            rho = rhoNew;
+
+            if(isBreakdown(omega) == true) {
+                break;
+            }
+        }
+
+        return new Vector(x);
+    }
+
+    /**
+     * @return number of iterations of the last solve
+     */
+    public int getIterations() {
+        return iterations;
+    }
+
+    /**
+     * @return norm of the residual b - Ax after the last solve
+     */
+    public double getResidualNorm() {
+        return residualNorm;
+    }
+
+    public boolean hasConverged() {
+        return converged;
+    }
+
+    public double getTolerance() {
+        return tolerance;
+    }
+
+    public int getMaxIterations() {
+        return maxIterations;
+    }
+
+    private void reset(double startingResidualNorm) {
+        iterations = 0;
+        residualNorm = startingResidualNorm;
+        converged = false;
+    }
+
+    private boolean isDone(double bNorm) {
+        if(residualNorm <= tolerance * bNorm) {
+            converged = true;
+            return true;
+        }
+
+        return converged == true || iterations >= maxIterations;
+    }
+
+    /**
+     * @return true if a denominator of the iteration is zero or the iteration ran into infinities or NaNs
+     */
+    private static boolean isBreakdown(double value) {
+        return value == 0 || Double.isFinite(value) == false;
+    }
+
+    private static int checkDimensions(IMatrix matrix, IVector b, IVector x0) {
+        int n = matrix.getRowsCount();
+
+        if(matrix.getColsCount() != n) {
+            throw new IllegalArgumentException("Matrix must be a square matrix");
+        }
+
+        if(b.getDimension() != n || (x0 != null && x0.getDimension() != n)) {
+            throw new IllegalArgumentException("Vector dimensions do not correspond to the matrix dimensions");
+        }
+
+        return n;
+    }
+
+    private static double[] startingPoint(IVector x0, int n) {
+        return x0 == null ? new double[n] : x0.toArray();
+    }
+
+    private static double[] residual(IMatrix matrix, IVector b, double[] x) {
+        double[] r = new double[x.length];
+        multiply(matrix, x, r);
+
+        for(int i = 0; i < r.length; i++) {
+            r[i] = b.get(i) - r[i];
+        }
+
+        return r;
+    }
+
+    /**
+     * @return inverse of the main diagonal, or null if some diagonal element is not positive
+     */
+    private static double[] jacobiPreconditioner(IMatrix matrix) {
+        double[] diagonal;
+
+        if(matrix instanceof SparseMatrix) {
+            diagonal = ((SparseMatrix) matrix).diagonal();
+        } else {
+            diagonal = new double[matrix.getRowsCount()];
+            for(int i = 0; i < diagonal.length; i++) {
+                diagonal[i] = matrix.get(i, i);
+            }
+        }
+
+        for(int i = 0; i < diagonal.length; i++) {
+            if(diagonal[i] <= 0) {
+                return null;
+            }
+
+            diagonal[i] = 1 / diagonal[i];
+        }
+
+        return diagonal;
+    }
+
+    private static void precondition(double[] inverseDiagonal, double[] r, double[] z) {
+        if(inverseDiagonal == null) {
+            System.arraycopy(r, 0, z, 0, r.length);
+            return;
+        }
+
+        for(int i = 0; i < r.length; i++) {
+            z[i] = inverseDiagonal[i] * r[i];
+        }
+    }
+
+    static void multiply(IMatrix matrix, double[] x, double[] out) {
+        if(matrix instanceof SparseMatrix) {
+            ((SparseMatrix) matrix).multiply(x, out);
+            return;
+        }
+
+        if(matrix instanceof DenseMatrix) {
+            DenseMatrix dense = (DenseMatrix) matrix;
+            double[] elements = dense.getElements();
+
+            for(int row = 0; row < out.length; row++) {
+                int index = dense.getOffset() + row * dense.getStride();
+                out[row] = Kernels.dot(elements, index, x, 0, x.length);
+            }
+
+            return;
+        }
+
+        for(int row = 0; row < out.length; row++) {
+            double sum = 0;
+
+            for(int col = 0; col < x.length; col++) {
+                sum += matrix.get(row, col) * x[col];
+            }
+
+            out[row] = sum;
+        }
+    }
+
+    static double dot(double[] a, double[] b) {
+        return Kernels.dot(a, 0, b, 0, a.length);
+    }
+
+    static double norm(double[] a) {
+        return Math.sqrt(Kernels.sumOfSquares(a, 0, a.length));
+    }
+}
@@ -0,0 +1,384 @@
+package math.matrix;
+
+import math.vector.IVector;
+import math.vector.Vector;
+
+import math.util.Kernels;
+
+import java.util.Arrays;
+
+/**
+ * LU/LUP factorisation of a square matrix, PA = LU.
+ * Matrix is factored once in the constructor, the same object can then be used for any number of
+ * determinant, solve or inverse calls. The factors are kept row-major in one array like {@link DenseMatrix},
+ * rows are switched physically.
+ */
+public class LUDecomposition {
+
+    /**
+     * Default bound below which a pivot is treated as zero, also used by {@link CholeskyDecomposition}
+     */
+    static final double EPSILON = 10E-6;
+
+    /**
+     * Row-major, element [row][col] at row * size + col, L below the diagonal (unit diagonal is implied) and U on
+     * and above the diagonal
+     */
+    private double[] lu;
+
+    /**
+     * pivot[i] is the row of the original matrix which ended up at row i
+     */
+    private int[] pivot;
+
+    /**
+     * 1 for an even number of row switches, -1 for an odd number
+     */
+    private int pivotSign;
+
+    private int size;
+
+    private double epsilon;
+
+    private boolean pivoting;
+
+    /**
+     * 1-norm of the factored matrix, used for the condition estimate
+     */
+    private double norm;
+
+    public LUDecomposition(IMatrix matrix) {
+        this(matrix, true, EPSILON);
+    }
+
+    public LUDecomposition(IMatrix matrix, double epsilon) {
+        this(matrix, true, epsilon);
+    }
+
+    /**
+     * @param matrix square matrix to factor
+     * @param luOrLup true for LUP, false for LU. LU switches to LUP if it would have to divide by zero
+     * @param epsilon pivots lesser than epsilon in absolute value are treated as zero
+     */
+    public LUDecomposition(IMatrix matrix, boolean luOrLup, double epsilon) {
+        if(matrix.getRowsCount() != matrix.getColsCount()) {
+            throw new IllegalArgumentException("Matrix must be a square matrix");
+        }
+
+        this.size = matrix.getRowsCount();
+        this.epsilon = epsilon;
+        this.pivoting = luOrLup;
+
+        initFactorisation(matrix);
+
+        if(factorise() == false) {
+            pivoting = true;
+            initFactorisation(matrix);
+            factorise();
+        }
+    }
+
+    private void initFactorisation(IMatrix matrix) {
+        lu = DenseMatrix.copyOf(matrix).getElements();
+
+        pivot = new int[size];
+        for(int i = 0; i < size; i++) {
+            pivot[i] = i;
+        }
+        pivotSign = 1;
+
+        norm = 0;
+        for(int col = 0; col < size; col++) {
+            double columnSum = 0;
+            for(int row = 0; row < size; row++) {
+                columnSum += Math.abs(lu[row * size + col]);
+            }
+            norm = Math.max(norm, columnSum);
+        }
+    }
+
+    /**
+     * @return false if LU without pivoting ran into a zero pivot
+     */
+    private boolean factorise() {
+        for(int k = 0; k < size; k++) {
+            int rowK = k * size;
+
+            int pivotRow = k;
+            if(pivoting == true) {
+                for(int i = k + 1; i < size; i++) {
+                    if(Math.abs(lu[i * size + k]) > Math.abs(lu[pivotRow * size + k])) {
+                        pivotRow = i;
+                    }
+                }
+            } else if(Math.abs(lu[rowK + k]) < epsilon) {
+                return false;
+            }
+
+            if(pivotRow != k) {
+                int rowP = pivotRow * size;
+                for(int j = 0; j < size; j++) {
+                    double temp = lu[rowP + j];
+                    lu[rowP + j] = lu[rowK + j];
+                    lu[rowK + j] = temp;
+                }
+
+                int temp = pivot[pivotRow];
+                pivot[pivotRow] = pivot[k];
+                pivot[k] = temp;
+
+                pivotSign = -pivotSign;
+            }
+
+            double diagonal = lu[rowK + k];
+            if(diagonal == 0) {
+                continue;
+            }
+
+            for(int i = k + 1; i < size; i++) {
+                int rowI = i * size;
+                double factor = lu[rowI + k] / diagonal;
+                lu[rowI + k] = factor;
+
+                if(factor == 0) {
+                    continue;
+                }
+
+                Kernels.axpy(-factor, lu, rowK + k + 1, lu, rowI + k + 1, size - k - 1);
+            }
+        }
+
+        return true;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * @return true if partial pivoting was used, also when plain LU switched to LUP on a zero pivot. Rows may still
+     * be in their original order, when no pivot search found a larger element.
+     */
+    public boolean isPivoting() {
+        return pivoting;
+    }
+
+    public double determinant() {
+        double determinant = pivotSign;
+
+        for(int i = 0; i < size; i++) {
+            determinant *= lu[i * size + i];
+        }
+
+        return determinant;
+    }
+
+    /**
+     * @return true if any of the pivots is lesser than epsilon in absolute value
+     */
+    public boolean isSingular() {
+        for(int i = 0; i < size; i++) {
+            if(Math.abs(lu[i * size + i]) < epsilon) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Solves the system Ax = b with forward and backward substitution over the stored factorisation.
+     * @param freeVectorB
+     * @return solution of the system, vector X
+     */
+    public IVector solve(IVector freeVectorB) {
+        if(freeVectorB.getDimension() != size) {
+            throw new IllegalArgumentException("Length of the vector must be equal to the dimension of the matrix");
+        }
+
+        checkSingular();
+
+        double[] x = new double[size];
+        for(int i = 0; i < size; i++) {
+            x[i] = freeVectorB.get(pivot[i]);
+        }
+
+        substitute(x);
+
+        return new Vector(false, true, x);
+    }
+
+    /**
+     * Solves AX = B for every column of B at once.
+     * @param freeMatrixB matrix whose columns are the right-hand sides
+     * @return matrix whose columns are the solutions
+     */
+    public IMatrix solve(IMatrix freeMatrixB) {
+        if(freeMatrixB.getRowsCount() != size) {
+            throw new IllegalArgumentException("Number of rows must be equal to the dimension of the matrix");
+        }
+
+        checkSingular();
+
+        int cols = freeMatrixB.getColsCount();
+        DenseMatrix x = DenseMatrix.copyOf(freeMatrixB).permuteRows(pivot);
+
+        substitute(x.getElements(), cols);
+
+        return x;
+    }
+
+    public IMatrix inverse() {
+        checkSingular();
+
+        double[] x = new double[size * size];
+        for(int row = 0; row < size; row++) {
+            x[row * size + pivot[row]] = 1;
+        }
+
+        substitute(x, size);
+
+        return new DenseMatrix(size, size, x, true);
+    }
+
+    /**
+     * Estimates the 1-norm condition number ||A|| * ||A^-1|| without forming the inverse
+     * (Hager's method, a few solves with A and its transpose).
+     * @return condition estimate, infinity for a singular matrix
+     */
+    public double conditionEstimate() {
+        if(isSingular() == true) {
+            return Double.POSITIVE_INFINITY;
+        }
+
+        double[] x = new double[size];
+        Arrays.fill(x, 1d / size);
+
+        double inverseNorm = 0;
+        for(int iteration = 0; iteration < 5; iteration++) {
+            double[] y = new double[size];
+            for(int i = 0; i < size; i++) {
+                y[i] = x[pivot[i]];
+            }
+            substitute(y);
+
+            double yNorm = 0;
+            double[] z = new double[size];
+            for(int i = 0; i < size; i++) {
+                yNorm += Math.abs(y[i]);
+                z[i] = y[i] >= 0 ? 1 : -1;
+            }
+
+            if(yNorm <= inverseNorm) {
+                break;
+            }
+            inverseNorm = yNorm;
+
+            z = solveTransposed(z);
+
+            int maxIndex = 0;
+            double zx = 0;
+            for(int i = 0; i < size; i++) {
+                zx += z[i] * x[i];
+                if(Math.abs(z[i]) > Math.abs(z[maxIndex])) {
+                    maxIndex = i;
+                }
+            }
+
+            if(Math.abs(z[maxIndex]) <= zx) {
+                break;
+            }
+
+            Arrays.fill(x, 0);
+            x[maxIndex] = 1;
+        }
+
+        return norm * inverseNorm;
+    }
+
+    private void checkSingular() {
+        if(isSingular() == true) {
+            throw new IllegalArgumentException("Matrix is singular");
+        }
+    }
+
+    /**
+     * Forward and backward substitution in place, x must already be permuted.
+     */
+    private void substitute(double[] x) {
+        for(int i = 0; i < size; i++) {
+            x[i] -= Kernels.dot(lu, i * size, x, 0, i);
+        }
+
+        for(int i = size - 1; i >= 0; i--) {
+            int row = i * size;
+            double value = x[i] - Kernels.dot(lu, row + i + 1, x, i + 1, size - i - 1);
+            x[i] = value / lu[row + i];
+        }
+    }
+
+    /**
+     * Forward and backward substitution in place for multiple right-hand sides, x is row-major with cols columns and
+     * its rows must already be permuted.
+     */
+    private void substitute(double[] x, int cols) {
+        for(int i = 0; i < size; i++) {
+            int row = i * size;
+            for(int j = 0; j < i; j++) {
+                double factor = lu[row + j];
+                if(factor == 0) {
+                    continue;
+                }
+
+                Kernels.axpy(-factor, x, j * cols, x, i * cols, cols);
+            }
+        }
+
+        for(int i = size - 1; i >= 0; i--) {
+            int row = i * size;
+            for(int j = i + 1; j < size; j++) {
+                double factor = lu[row + j];
+                if(factor == 0) {
+                    continue;
+                }
+
+                Kernels.axpy(-factor, x, j * cols, x, i * cols, cols);
+            }
+
+            double diagonal = lu[row + i];
+            for(int col = i * cols, end = col + cols; col < end; col++) {
+                x[col] /= diagonal;
+            }
+        }
+    }
+
+    /**
+     * Solves A^T x = b, A^T = U^T L^T P
+     */
+    private double[] solveTransposed(double[] b) {
+        double[] w = Arrays.copyOf(b, size);
+
+        for(int i = 0; i < size; i++) {
+            double value = w[i];
+            for(int j = 0; j < i; j++) {
+                value -= lu[j * size + i] * w[j];
+            }
+            w[i] = value / lu[i * size + i];
+        }
+
+        for(int i = size - 1; i >= 0; i--) {
+            double value = w[i];
+            for(int j = i + 1; j < size; j++) {
+                value -= lu[j * size + i] * w[j];
+            }
+            w[i] = value;
+        }
+
+        double[] x = new double[size];
+        for(int i = 0; i < size; i++) {
+            x[pivot[i]] = w[i];
+        }
+
+        return x;
+    }
+}
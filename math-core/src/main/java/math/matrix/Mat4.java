@@ -0,0 +1,438 @@
+package math.matrix;
+
+import math.vector.IVector;
+import math.vector.Vec3;
+import math.vector.Vec4;
+
+/**
+ * 4x4 transformation matrix stored in fields, m[row][col]. Same conventions as the rest of the library:
+ * points are row vectors multiplied from the left (p' = p * M), translation is in row 3 and angles are in degrees.
+ * Methods without an out parameter change this matrix, none of the Mat4/Vec3/Vec4 methods allocate.
+ */
+public class Mat4 extends AbstractMatrix {
+
+    public double m00;
+
+    public double m01;
+
+    public double m02;
+
+    public double m03;
+
+    public double m10;
+
+    public double m11;
+
+    public double m12;
+
+    public double m13;
+
+    public double m20;
+
+    public double m21;
+
+    public double m22;
+
+    public double m23;
+
+    public double m30;
+
+    public double m31;
+
+    public double m32;
+
+    public double m33;
+
+    /**
+     * Zero matrix
+     */
+    public Mat4() {
+    }
+
+    public Mat4(IMatrix matrix) {
+        set(matrix);
+    }
+
+    public static Mat4 identity() {
+        return new Mat4().setIdentity();
+    }
+
+    public Mat4 setIdentity() {
+        m00 = 1; m01 = 0; m02 = 0; m03 = 0;
+        m10 = 0; m11 = 1; m12 = 0; m13 = 0;
+        m20 = 0; m21 = 0; m22 = 1; m23 = 0;
+        m30 = 0; m31 = 0; m32 = 0; m33 = 1;
+
+        return this;
+    }
+
+    public Mat4 set(Mat4 other) {
+        m00 = other.m00;
+        m01 = other.m01;
+        m02 = other.m02;
+        m03 = other.m03;
+        m10 = other.m10;
+        m11 = other.m11;
+        m12 = other.m12;
+        m13 = other.m13;
+        m20 = other.m20;
+        m21 = other.m21;
+        m22 = other.m22;
+        m23 = other.m23;
+        m30 = other.m30;
+        m31 = other.m31;
+        m32 = other.m32;
+        m33 = other.m33;
+
+        return this;
+    }
+
+    public Mat4 set(IMatrix matrix) {
+        if(matrix.getRowsCount() != 4 || matrix.getColsCount() != 4) {
+            throw new IllegalArgumentException("Matrix must be a 4x4 matrix");
+        }
+
+        if(matrix instanceof Mat4) {
+            return set((Mat4) matrix);
+        }
+
+        for(int row = 0; row < 4; row++) {
+            for(int col = 0; col < 4; col++) {
+                set(row, col, matrix.get(row, col));
+            }
+        }
+
+        return this;
+    }
+
+    @Override
+    public int getRowsCount() {
+        return 4;
+    }
+
+    @Override
+    public int getColsCount() {
+        return 4;
+    }
+
+    @Override
+    public double get(int row, int column) {
+        if(row < 0 || row >= 4 || column < 0 || column >= 4) {
+            throw new IllegalArgumentException("Row or column index is lesser than zero or exceeds the max row or column");
+        }
+
+        switch(row * 4 + column) {
+            case 0:
+                return m00;
+            case 1:
+                return m01;
+            case 2:
+                return m02;
+            case 3:
+                return m03;
+            case 4:
+                return m10;
+            case 5:
+                return m11;
+            case 6:
+                return m12;
+            case 7:
+                return m13;
+            case 8:
+                return m20;
+            case 9:
+                return m21;
+            case 10:
+                return m22;
+            case 11:
+                return m23;
+            case 12:
+                return m30;
+            case 13:
+                return m31;
+            case 14:
+                return m32;
+            case 15:
+                return m33;
+            default:
+                throw new IllegalStateException();
+        }
+    }
+
+    @Override
+    public IMatrix set(int row, int column, double value) {
+        if(row < 0 || row >= 4 || column < 0 || column >= 4) {
+            throw new IllegalArgumentException("Row or column index is lesser than zero or exceeds the max row or column");
+        }
+
+        switch(row * 4 + column) {
+            case 0:
+                m00 = value;
+                break;
+            case 1:
+                m01 = value;
+                break;
+            case 2:
+                m02 = value;
+                break;
+            case 3:
+                m03 = value;
+                break;
+            case 4:
+                m10 = value;
+                break;
+            case 5:
+                m11 = value;
+                break;
+            case 6:
+                m12 = value;
+                break;
+            case 7:
+                m13 = value;
+                break;
+            case 8:
+                m20 = value;
+                break;
+            case 9:
+                m21 = value;
+                break;
+            case 10:
+                m22 = value;
+                break;
+            case 11:
+                m23 = value;
+                break;
+            case 12:
+                m30 = value;
+                break;
+            case 13:
+                m31 = value;
+                break;
+            case 14:
+                m32 = value;
+                break;
+            case 15:
+                m33 = value;
+                break;
+        }
+
+        return this;
+    }
+
+    @Override
+    public IMatrix copy() {
+        return new Mat4().set(this);
+    }
+
+    @Override
+    public IMatrix newInstance(int rows, int columns) {
+        if(rows == 4 && columns == 4) {
+            return new Mat4();
+        }
+
+        return new DenseMatrix(rows, columns);
+    }
+
+    /**
+     * out = a * b, out may be the same object as a or b
+     */
+    public static Mat4 multiply(Mat4 a, Mat4 b, Mat4 out) {
+        double r00 = a.m00 * b.m00 + a.m01 * b.m10 + a.m02 * b.m20 + a.m03 * b.m30;
+        double r01 = a.m00 * b.m01 + a.m01 * b.m11 + a.m02 * b.m21 + a.m03 * b.m31;
+        double r02 = a.m00 * b.m02 + a.m01 * b.m12 + a.m02 * b.m22 + a.m03 * b.m32;
+        double r03 = a.m00 * b.m03 + a.m01 * b.m13 + a.m02 * b.m23 + a.m03 * b.m33;
+        double r10 = a.m10 * b.m00 + a.m11 * b.m10 + a.m12 * b.m20 + a.m13 * b.m30;
+        double r11 = a.m10 * b.m01 + a.m11 * b.m11 + a.m12 * b.m21 + a.m13 * b.m31;
+        double r12 = a.m10 * b.m02 + a.m11 * b.m12 + a.m12 * b.m22 + a.m13 * b.m32;
+        double r13 = a.m10 * b.m03 + a.m11 * b.m13 + a.m12 * b.m23 + a.m13 * b.m33;
+        double r20 = a.m20 * b.m00 + a.m21 * b.m10 + a.m22 * b.m20 + a.m23 * b.m30;
+        double r21 = a.m20 * b.m01 + a.m21 * b.m11 + a.m22 * b.m21 + a.m23 * b.m31;
+        double r22 = a.m20 * b.m02 + a.m21 * b.m12 + a.m22 * b.m22 + a.m23 * b.m32;
+        double r23 = a.m20 * b.m03 + a.m21 * b.m13 + a.m22 * b.m23 + a.m23 * b.m33;
+        double r30 = a.m30 * b.m00 + a.m31 * b.m10 + a.m32 * b.m20 + a.m33 * b.m30;
+        double r31 = a.m30 * b.m01 + a.m31 * b.m11 + a.m32 * b.m21 + a.m33 * b.m31;
+        double r32 = a.m30 * b.m02 + a.m31 * b.m12 + a.m32 * b.m22 + a.m33 * b.m32;
+        double r33 = a.m30 * b.m03 + a.m31 * b.m13 + a.m32 * b.m23 + a.m33 * b.m33;
+
+        out.m00 = r00;
+        out.m01 = r01;
+        out.m02 = r02;
+        out.m03 = r03;
+        out.m10 = r10;
+        out.m11 = r11;
+        out.m12 = r12;
+        out.m13 = r13;
+        out.m20 = r20;
+        out.m21 = r21;
+        out.m22 = r22;
+        out.m23 = r23;
+        out.m30 = r30;
+        out.m31 = r31;
+        out.m32 = r32;
+        out.m33 = r33;
+
+        return out;
+    }
+
+    /**
+     * this = this * other
+     */
+    public Mat4 multiply(Mat4 other) {
+        return multiply(this, other, this);
+    }
+
+    @Override
+    public IMatrix nMultiply(IMatrix other) {
+        if(other instanceof Mat4) {
+            return multiply(this, (Mat4) other, new Mat4());
+        }
+
+        return super.nMultiply(other);
+    }
+
+    /**
+     * this = this * T, where T translates by (dx, dy, dz)
+     */
+    public Mat4 translate(double dx, double dy, double dz) {
+        m00 += m03 * dx; m01 += m03 * dy; m02 += m03 * dz;
+        m10 += m13 * dx; m11 += m13 * dy; m12 += m13 * dz;
+        m20 += m23 * dx; m21 += m23 * dy; m22 += m23 * dz;
+        m30 += m33 * dx; m31 += m33 * dy; m32 += m33 * dz;
+
+        return this;
+    }
+
+    /**
+     * this = this * Rx
+     */
+    public Mat4 rotateX(double angle) {
+        double radians = Math.toRadians(angle);
+        double cos = Math.cos(radians);
+        double sin = Math.sin(radians);
+        double temp;
+
+        temp = m01 * cos - m02 * sin; m02 = m01 * sin + m02 * cos; m01 = temp;
+        temp = m11 * cos - m12 * sin; m12 = m11 * sin + m12 * cos; m11 = temp;
+        temp = m21 * cos - m22 * sin; m22 = m21 * sin + m22 * cos; m21 = temp;
+        temp = m31 * cos - m32 * sin; m32 = m31 * sin + m32 * cos; m31 = temp;
+
+        return this;
+    }
+
+    /**
+     * this = this * Ry
+     */
+    public Mat4 rotateY(double angle) {
+        double radians = Math.toRadians(angle);
+        double cos = Math.cos(radians);
+        double sin = Math.sin(radians);
+        double temp;
+
+        temp = m00 * cos + m02 * sin; m02 = -m00 * sin + m02 * cos; m00 = temp;
+        temp = m10 * cos + m12 * sin; m12 = -m10 * sin + m12 * cos; m10 = temp;
+        temp = m20 * cos + m22 * sin; m22 = -m20 * sin + m22 * cos; m20 = temp;
+        temp = m30 * cos + m32 * sin; m32 = -m30 * sin + m32 * cos; m30 = temp;
+
+        return this;
+    }
+
+    /**
+     * this = this * Rz
+     */
+    public Mat4 rotateZ(double angle) {
+        double radians = Math.toRadians(angle);
+        double cos = Math.cos(radians);
+        double sin = Math.sin(radians);
+        double temp;
+
+        temp = m00 * cos - m01 * sin; m01 = m00 * sin + m01 * cos; m00 = temp;
+        temp = m10 * cos - m11 * sin; m11 = m10 * sin + m11 * cos; m10 = temp;
+        temp = m20 * cos - m21 * sin; m21 = m20 * sin + m21 * cos; m20 = temp;
+        temp = m30 * cos - m31 * sin; m31 = m30 * sin + m31 * cos; m30 = temp;
+
+        return this;
+    }
+
+    /**
+     * this = this * Rx * Ry * Rz, same as {@link #rotate(IVector)} without allocating
+     */
+    public Mat4 rotate(double xAngle, double yAngle, double zAngle) {
+        if(xAngle != 0) {
+            rotateX(xAngle);
+        }
+
+        if(yAngle != 0) {
+            rotateY(yAngle);
+        }
+
+        if(zAngle != 0) {
+            rotateZ(zAngle);
+        }
+
+        return this;
+    }
+
+    @Override
+    public IMatrix translate(IVector translationVector) {
+        return new Mat4().set(this).translate(translationVector.get(0), translationVector.get(1), translationVector.get(2));
+    }
+
+    @Override
+    public IMatrix rotate(IVector rotationAngles) {
+        return new Mat4().set(this).rotate(rotationAngles.get(0), rotationAngles.get(1), rotationAngles.get(2));
+    }
+
+    /**
+     * out = [point, 1] * this, without the division by w
+     */
+    public Vec3 transformPoint(Vec3 point, Vec3 out) {
+        return out.set(
+                point.x * m00 + point.y * m10 + point.z * m20 + m30,
+                point.x * m01 + point.y * m11 + point.z * m21 + m31,
+                point.x * m02 + point.y * m12 + point.z * m22 + m32);
+    }
+
+    /**
+     * out = vector * this, out may be the same object as vector
+     */
+    public Vec4 transform(Vec4 vector, Vec4 out) {
+        return out.set(
+                vector.x * m00 + vector.y * m10 + vector.z * m20 + vector.w * m30,
+                vector.x * m01 + vector.y * m11 + vector.z * m21 + vector.w * m31,
+                vector.x * m02 + vector.y * m12 + vector.z * m22 + vector.w * m32,
+                vector.x * m03 + vector.y * m13 + vector.z * m23 + vector.w * m33);
+    }
+
+    /**
+     * View matrix, same as {@link math.util.IRG#lookAtMatrix(IVector, IVector, IVector)}
+     */
+    public Mat4 setLookAt(Vec3 eye, Vec3 center, Vec3 viewUp) {
+        double zx = eye.x - center.x, zy = eye.y - center.y, zz = eye.z - center.z;
+        double zNorm = Math.sqrt(zx * zx + zy * zy + zz * zz);
+        if(zNorm != 0) {
+            zx /= zNorm; zy /= zNorm; zz /= zNorm;
+        }
+
+        double xx = viewUp.y * zz - viewUp.z * zy;
+        double xy = viewUp.z * zx - viewUp.x * zz;
+        double xz = viewUp.x * zy - viewUp.y * zx;
+        double xNorm = Math.sqrt(xx * xx + xy * xy + xz * xz);
+        if(xNorm != 0) {
+            xx /= xNorm; xy /= xNorm; xz /= xNorm;
+        }
+
+        double yx = zy * xz - zz * xy;
+        double yy = zz * xx - zx * xz;
+        double yz = zx * xy - zy * xx;
+
+        m00 = xx; m01 = yx; m02 = zx; m03 = 0;
+        m10 = xy; m11 = yy; m12 = zy; m13 = 0;
+        m20 = xz; m21 = yz; m22 = zz; m23 = 0;
+        m30 = -(xx * eye.x + xy * eye.y + xz * eye.z);
+        m31 = -(yx * eye.x + yy * eye.y + yz * eye.z);
+        m32 = -(zx * eye.x + zy * eye.y + zz * eye.z);
+        m33 = 1;
+
+        return this;
+    }
+}
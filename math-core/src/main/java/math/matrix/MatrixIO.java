@@ -0,0 +1,252 @@
+package math.matrix;
+
+import math.util.DoubleTokenizer;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Reading and writing of matrices without building the whole file as strings.
+ *
+ * Text format: one row per line, elements separated by whitespace. Files are memory mapped and parsed by a
+ * {@link DoubleTokenizer}.
+ *
+ * Binary format: a 16 byte header (magic "MTRX", format version, rows, cols as little-endian ints) followed by
+ * rows * cols little-endian doubles in row-major order. Files are memory mapped and copied straight into the
+ * storage of a {@link DenseMatrix}.
+ */
+public class MatrixIO {
+
+    private static final int MAGIC = 'M' | 'T' << 8 | 'R' << 16 | 'X' << 24;
+
+    private static final int VERSION = 1;
+
+    /**
+     * Bytes of the binary header
+     */
+    public static final int HEADER_SIZE = 16;
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    // largest region mapped at once, a whole number of doubles below 2GB
+    private static final long MAX_MAPPED_SIZE = (Integer.MAX_VALUE / Double.BYTES) * (long) Double.BYTES;
+
+    public static DenseMatrix readText(Path path) throws IOException {
+        if(Files.exists(path) == false) {
+            throw new IllegalArgumentException("File does not exist");
+        }
+
+        try(FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if(channel.size() > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Text file is too large to be mapped, use the binary format");
+            }
+
+            return readText(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Parses a matrix from the remaining bytes of the buffer, blank lines are skipped
+     */
+    public static DenseMatrix readText(ByteBuffer buffer) {
+        DoubleTokenizer tokenizer = new DoubleTokenizer(buffer);
+
+        double[] elements = new double[1024];
+        int size = 0;
+        int rows = 0;
+        int cols = 0;
+
+        while(tokenizer.nextLine() == true) {
+            int count = 0;
+
+            while(tokenizer.hasNextOnLine() == true) {
+                if(size == elements.length) {
+                    if(elements.length == Integer.MAX_VALUE - 8) {
+                        throw new IllegalArgumentException("Matrix has too many elements");
+                    }
+
+                    elements = Arrays.copyOf(elements, (int) Math.min(2L * elements.length, Integer.MAX_VALUE - 8));
+                }
+
+                elements[size++] = tokenizer.nextDouble();
+                count++;
+            }
+
+            if(rows == 0) {
+                cols = count;
+            } else if(count != cols) {
+                throw new IllegalArgumentException("All rows must have an equal number of elements, line "
+                        + (tokenizer.getLine() + 1) + " has " + count + " instead of " + cols);
+            }
+
+            rows++;
+        }
+
+        if(rows == 0) {
+            throw new IllegalArgumentException("File does not contain a matrix");
+        }
+
+        return new DenseMatrix(rows, cols, size == elements.length ? elements : Arrays.copyOf(elements, size), true);
+    }
+
+    /**
+     * Writes elements separated by spaces and rows separated by new lines, which {@link #readText(Path)} reads back
+     * as the same matrix. An existing file is overwritten.
+     */
+    public static void writeText(IMatrix matrix, Path path) throws IOException {
+        try(Writer writer = Files.newBufferedWriter(path, StandardCharsets.US_ASCII)) {
+            writeText(matrix, writer);
+        }
+    }
+
+    public static void writeText(IMatrix matrix, Writer writer) throws IOException {
+        Writer buffered = writer instanceof BufferedWriter ? writer : new BufferedWriter(writer, BUFFER_SIZE);
+
+        for(int row = 0; row < matrix.getRowsCount(); row++) {
+            for(int col = 0; col < matrix.getColsCount(); col++) {
+                if(col != 0) {
+                    buffered.write(' ');
+                }
+
+                buffered.write(Double.toString(matrix.get(row, col)));
+            }
+
+            if(row != matrix.getRowsCount() - 1) {
+                buffered.write('\n');
+            }
+        }
+
+        buffered.flush();
+    }
+
+    public static DenseMatrix readBinary(Path path) throws IOException {
+        if(Files.exists(path) == false) {
+            throw new IllegalArgumentException("File does not exist");
+        }
+
+        try(FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if(channel.size() < HEADER_SIZE) {
+                throw new IllegalArgumentException("File is too short to be a binary matrix");
+            }
+
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            if(header.getInt() != MAGIC) {
+                throw new IllegalArgumentException("File is not a binary matrix");
+            }
+
+            int version = header.getInt();
+            if(version != VERSION) {
+                throw new IllegalArgumentException("Unsupported binary matrix version " + version);
+            }
+
+            int rows = header.getInt();
+            int cols = header.getInt();
+            long count = (long) rows * cols;
+
+            if(rows < 1 || cols < 1 || count > Integer.MAX_VALUE - 8) {
+                throw new IllegalArgumentException("Invalid matrix dimensions " + rows + "x" + cols);
+            }
+
+            if(channel.size() != HEADER_SIZE + count * Double.BYTES) {
+                throw new IllegalArgumentException("File size does not match matrix dimensions " + rows + "x" + cols);
+            }
+
+            double[] elements = new double[(int) count];
+            long position = HEADER_SIZE;
+            int index = 0;
+
+            while(index < elements.length) {
+                long length = Math.min(MAX_MAPPED_SIZE, (elements.length - index) * (long) Double.BYTES);
+                MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+
+                int chunk = (int) (length / Double.BYTES);
+                mapped.order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer().get(elements, index, chunk);
+
+                index += chunk;
+                position += length;
+            }
+
+            return new DenseMatrix(rows, cols, elements, true);
+        }
+    }
+
+    /**
+     * Writes the matrix in the binary format, an existing file is overwritten
+     */
+    public static void writeBinary(IMatrix matrix, Path path) throws IOException {
+        try(FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE)) {
+
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            putBinaryHeader(buffer, matrix.getRowsCount(), matrix.getColsCount());
+
+            boolean dense = matrix instanceof DenseMatrix;
+            for(int row = 0; row < matrix.getRowsCount(); row++) {
+                if(dense == true) {
+                    putRow((DenseMatrix) matrix, row, buffer, channel);
+                    continue;
+                }
+
+                for(int col = 0; col < matrix.getColsCount(); col++) {
+                    if(buffer.remaining() < Double.BYTES) {
+                        drain(buffer, channel);
+                    }
+
+                    buffer.putDouble(matrix.get(row, col));
+                }
+            }
+
+            drain(buffer, channel);
+        }
+    }
+
+    /**
+     * Puts the header of the binary format at the position of the buffer, which must be in little-endian order.
+     * Lets a writer which learns the dimensions only at the end reserve the header and fill it in later.
+     */
+    public static void putBinaryHeader(ByteBuffer buffer, int rows, int cols) {
+        if(buffer.order() != ByteOrder.LITTLE_ENDIAN) {
+            throw new IllegalArgumentException("Buffer must be in little-endian order");
+        }
+
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(rows).putInt(cols);
+    }
+
+    /**
+     * Copies a row of dense storage into the buffer in bulk, draining the buffer whenever it fills up
+     */
+    private static void putRow(DenseMatrix matrix, int row, ByteBuffer buffer, FileChannel channel) throws IOException {
+        double[] elements = matrix.getElements();
+        int index = matrix.getOffset() + row * matrix.getStride();
+        int end = index + matrix.getColsCount();
+
+        while(index < end) {
+            if(buffer.remaining() < Double.BYTES) {
+                drain(buffer, channel);
+            }
+
+            int chunk = Math.min(end - index, buffer.remaining() / Double.BYTES);
+            buffer.asDoubleBuffer().put(elements, index, chunk);
+            buffer.position(buffer.position() + chunk * Double.BYTES);
+            index += chunk;
+        }
+    }
+
+    private static void drain(ByteBuffer buffer, FileChannel channel) throws IOException {
+        buffer.flip();
+        while(buffer.hasRemaining() == true) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
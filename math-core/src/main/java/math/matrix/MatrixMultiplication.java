@@ -0,0 +1,263 @@
+package math.matrix;
+
+import math.util.Kernels;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * General matrix multiply. Dense operands are multiplied tile by tile so that the tiles of both operands stay in
+ * cache, products above the parallel threshold are split by rows of the result on the common fork-join pool.
+ */
+public class MatrixMultiplication {
+
+    /**
+     * Tile edge, a 64x64 tile of doubles takes 32KB
+     */
+    private static volatile int blockSize = 64;
+
+    /**
+     * Number of multiply-adds (rows * inner * cols) above which the product is computed in parallel
+     */
+    private static volatile long parallelThreshold = 128L * 128 * 128;
+
+    /**
+     * Rows of c computed together by {@link Kernels#multiplyAdd4}, only pays off with the Vector API kernels,
+     * the plain loops are vectorized by the JIT one row at a time
+     */
+    private static final int ROW_GROUP = Kernels.isVectorised() == true ? 4 : 1;
+
+    public static int getBlockSize() {
+        return blockSize;
+    }
+
+    public static void setBlockSize(int blockSize) {
+        if(blockSize < 1) {
+            throw new IllegalArgumentException("Block size cannot be lower than 1");
+        }
+
+        MatrixMultiplication.blockSize = blockSize;
+    }
+
+    public static long getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    /**
+     * @param parallelThreshold number of multiply-adds above which the fork-join pool is used,
+     *                          Long.MAX_VALUE disables the parallel path
+     */
+    public static void setParallelThreshold(long parallelThreshold) {
+        if(parallelThreshold < 1) {
+            throw new IllegalArgumentException("Threshold cannot be lower than 1");
+        }
+
+        MatrixMultiplication.parallelThreshold = parallelThreshold;
+    }
+
+    /**
+     * Computes out = a * b without allocating a result matrix. Out may be the same matrix as a or b, in that case
+     * the product is computed into a temporary first.
+     * @return out
+     */
+    public static IMatrix multiplyInto(IMatrix a, IMatrix b, IMatrix out) {
+        if(a.getColsCount() != b.getRowsCount()) {
+            throw new IllegalArgumentException("Matrices cannot be used in multiplication with these dimensions");
+        }
+
+        if(out.getRowsCount() != a.getRowsCount() || out.getColsCount() != b.getColsCount()) {
+            throw new IllegalArgumentException("Result matrix must be of size rows(a) x cols(b)");
+        }
+
+        if(a instanceof SparseMatrix) {
+            if(sharesStorage(out, b) == true) {
+                IMatrix temp = new DenseMatrix(out.getRowsCount(), out.getColsCount());
+                SparseMatrix.multiply((SparseMatrix) a, b, temp);
+                copyInto(temp, out);
+            } else {
+                SparseMatrix.multiply((SparseMatrix) a, b, out);
+            }
+
+            return out;
+        }
+
+        if(a instanceof Mat4 && b instanceof Mat4 && out instanceof Mat4) {
+            return Mat4.multiply((Mat4) a, (Mat4) b, (Mat4) out);
+        }
+
+        if(a instanceof DenseMatrix && b instanceof DenseMatrix && out instanceof DenseMatrix) {
+            DenseMatrix denseA = (DenseMatrix) a;
+            DenseMatrix denseB = (DenseMatrix) b;
+            DenseMatrix denseOut = (DenseMatrix) out;
+
+            if(sharesStorage(denseOut, denseA) == true || sharesStorage(denseOut, denseB) == true) {
+                DenseMatrix temp = new DenseMatrix(out.getRowsCount(), out.getColsCount());
+                multiply(denseA, denseB, temp);
+                DenseMatrix.copy(temp, denseOut);
+            } else {
+                multiply(denseA, denseB, denseOut);
+            }
+
+            return out;
+        }
+
+        if(out == a || out == b) {
+            IMatrix temp = out.newInstance(out.getRowsCount(), out.getColsCount());
+            multiplyGeneric(a, b, temp);
+            copyInto(temp, out);
+        } else {
+            multiplyGeneric(a, b, out);
+        }
+
+        return out;
+    }
+
+    /**
+     * True if writing to one matrix may change the other, dense matrices are compared by their backing arrays
+     * so blocks and views of the same elements are caught too
+     */
+    private static boolean sharesStorage(IMatrix x, IMatrix y) {
+        if(x == y) {
+            return true;
+        }
+
+        return x instanceof DenseMatrix && y instanceof DenseMatrix
+                && ((DenseMatrix) x).getElements() == ((DenseMatrix) y).getElements();
+    }
+
+    private static void copyInto(IMatrix from, IMatrix to) {
+        for(int row = 0; row < to.getRowsCount(); row++) {
+            for(int col = 0; col < to.getColsCount(); col++) {
+                to.set(row, col, from.get(row, col));
+            }
+        }
+    }
+
+    private static void multiplyGeneric(IMatrix a, IMatrix b, IMatrix out) {
+        for(int row = 0; row < out.getRowsCount(); row++) {
+            for(int col = 0; col < out.getColsCount(); col++) {
+                double sum = 0;
+                for(int k = 0; k < a.getColsCount(); k++) {
+                    sum += a.get(row, k) * b.get(k, col);
+                }
+
+                out.set(row, col, sum);
+            }
+        }
+    }
+
+    /**
+     * c = a * b, c must not share storage with a or b
+     */
+    static void multiply(DenseMatrix a, DenseMatrix b, DenseMatrix c) {
+        // settings are read once, so every task of a product uses the same ones
+        int block = blockSize;
+        long threshold = parallelThreshold;
+
+        int rows = c.getRowsCount();
+        long work = (long) rows * a.getColsCount() * c.getColsCount();
+
+        if(work >= threshold && rows > block) {
+            ForkJoinPool.commonPool().invoke(new MultiplyTask(a, b, c, 0, rows, block, threshold));
+        } else {
+            multiplyRows(a, b, c, 0, rows, block);
+        }
+    }
+
+    /**
+     * Computes rows [rowStart, rowEnd) of c = a * b, loops are ordered i-k-j inside every tile
+     * so the innermost loop walks contiguous memory of b and c. With the Vector API rows are taken four at a time,
+     * so every loaded element of b is used for four rows of c.
+     */
+    private static void multiplyRows(DenseMatrix a, DenseMatrix b, DenseMatrix c, int rowStart, int rowEnd, int block) {
+        double[] aElements = a.getElements();
+        double[] bElements = b.getElements();
+        double[] cElements = c.getElements();
+        int aOffset = a.getOffset(), aStride = a.getStride();
+        int bOffset = b.getOffset(), bStride = b.getStride();
+        int cOffset = c.getOffset(), cStride = c.getStride();
+        int inner = a.getColsCount();
+        int cols = c.getColsCount();
+
+        for(int row = rowStart; row < rowEnd; row++) {
+            int cIndex = cOffset + row * cStride;
+            Arrays.fill(cElements, cIndex, cIndex + cols, 0);
+        }
+
+        for(int kBlock = 0; kBlock < inner; kBlock += block) {
+            int kEnd = Math.min(kBlock + block, inner);
+
+            for(int colBlock = 0; colBlock < cols; colBlock += block) {
+                int colEnd = Math.min(colBlock + block, cols);
+                int width = colEnd - colBlock;
+
+                int row = rowStart;
+                for(; ROW_GROUP == 4 && row <= rowEnd - 4; row += 4) {
+                    int aIndex = aOffset + row * aStride;
+                    int cIndex = cOffset + row * cStride + colBlock;
+
+                    for(int k = kBlock; k < kEnd; k++) {
+                        int bIndex = bOffset + k * bStride + colBlock;
+                        Kernels.multiplyAdd4(aElements, aIndex + k, aStride, bElements, bIndex, cElements, cIndex, cStride, width);
+                    }
+                }
+
+                for(; row < rowEnd; row++) {
+                    int aIndex = aOffset + row * aStride;
+                    int cIndex = cOffset + row * cStride + colBlock;
+
+                    for(int k = kBlock; k < kEnd; k++) {
+                        // zeros of a are multiplied too, so infinities and NaNs of b propagate as in the plain product
+                        int bIndex = bOffset + k * bStride + colBlock;
+                        Kernels.axpy(aElements[aIndex + k], bElements, bIndex, cElements, cIndex, width);
+                    }
+                }
+            }
+        }
+    }
+
+    private static class MultiplyTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private DenseMatrix a;
+
+        private DenseMatrix b;
+
+        private DenseMatrix c;
+
+        private int rowStart;
+
+        private int rowEnd;
+
+        private int block;
+
+        private long threshold;
+
+        MultiplyTask(DenseMatrix a, DenseMatrix b, DenseMatrix c, int rowStart, int rowEnd, int block, long threshold) {
+            this.a = a;
+            this.b = b;
+            this.c = c;
+            this.rowStart = rowStart;
+            this.rowEnd = rowEnd;
+            this.block = block;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            int rows = rowEnd - rowStart;
+            long work = (long) rows * a.getColsCount() * c.getColsCount();
+
+            if(rows <= block || work < threshold / 2) {
+                multiplyRows(a, b, c, rowStart, rowEnd, block);
+                return;
+            }
+
+            int middle = rowStart + rows / 2;
+            invokeAll(new MultiplyTask(a, b, c, rowStart, middle, block, threshold),
+                    new MultiplyTask(a, b, c, middle, rowEnd, block, threshold));
+        }
+    }
+}
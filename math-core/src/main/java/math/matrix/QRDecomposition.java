@@ -0,0 +1,338 @@
+package math.matrix;
+
+import math.vector.IVector;
+import math.vector.Vector;
+
+/**
+ * Householder QR factorisation with column pivoting, AP = QR. The matrix is factored once in the constructor into a
+ * flat row-major array, reflectors are stored below the diagonal. Every reflector is applied to the remaining columns
+ * as two passes over whole rows, so the inner loops walk contiguous memory.
+ *
+ * Columns are pivoted by their remaining norm, so the diagonal of R is non increasing in absolute value and
+ * the rank is the number of diagonal elements above the tolerance. For a rank deficient matrix the least squares
+ * solution is the basic one (zeros for the dependent columns), see {@link SingularValueDecomposition} for the
+ * minimum norm solution.
+ */
+public class QRDecomposition {
+
+    /**
+     * Diagonal elements of R lesser than tolerance * |R[0][0]| are treated as zero
+     */
+    private static final double TOLERANCE = 10E-13;
+
+    private double[] qr;
+
+    private int rows;
+
+    private int cols;
+
+    private double[] tau;
+
+    private double[] rDiagonal;
+
+    /**
+     * permutation[j] is the column of the original matrix which ended up at column j
+     */
+    private int[] permutation;
+
+    private int rank;
+
+    public QRDecomposition(IMatrix matrix) {
+        this(matrix, TOLERANCE);
+    }
+
+    /**
+     * @param tolerance relative tolerance for the rank, diagonal elements of R lesser than tolerance * |R[0][0]|
+     *                  are treated as zero
+     */
+    public QRDecomposition(IMatrix matrix, double tolerance) {
+        if(tolerance < 0) {
+            throw new IllegalArgumentException("Tolerance cannot be negative");
+        }
+
+        this.rows = matrix.getRowsCount();
+        this.cols = matrix.getColsCount();
+        this.qr = DenseMatrix.copyOf(matrix).getElements();
+
+        factorise();
+
+        int steps = Math.min(rows, cols);
+        double threshold = tolerance * Math.abs(rDiagonal[0]);
+        rank = 0;
+        while(rank < steps && Math.abs(rDiagonal[rank]) > threshold) {
+            rank++;
+        }
+    }
+
+    private void factorise() {
+        int steps = Math.min(rows, cols);
+        tau = new double[steps];
+        rDiagonal = new double[steps];
+        permutation = new int[cols];
+
+        // squared norms of the remaining parts of the columns, and their values when last computed exactly
+        double[] norms = new double[cols];
+        double[] exactNorms = new double[cols];
+        for(int row = 0; row < rows; row++) {
+            int index = row * cols;
+            for(int col = 0; col < cols; col++) {
+                norms[col] += qr[index + col] * qr[index + col];
+            }
+        }
+
+        for(int col = 0; col < cols; col++) {
+            permutation[col] = col;
+            exactNorms[col] = norms[col];
+        }
+
+        double[] w = new double[cols];
+
+        for(int k = 0; k < steps; k++) {
+            int pivot = k;
+            for(int col = k + 1; col < cols; col++) {
+                if(norms[col] > norms[pivot]) {
+                    pivot = col;
+                }
+            }
+
+            if(pivot != k) {
+                swapColumns(k, pivot);
+                swap(norms, k, pivot);
+                swap(exactNorms, k, pivot);
+
+                int temp = permutation[k];
+                permutation[k] = permutation[pivot];
+                permutation[pivot] = temp;
+            }
+
+            double norm = 0;
+            for(int row = k; row < rows; row++) {
+                norm += qr[row * cols + k] * qr[row * cols + k];
+            }
+            norm = Math.sqrt(norm);
+
+            if(norm == 0) {
+                tau[k] = 0;
+                rDiagonal[k] = 0;
+                continue;
+            }
+
+            // H = I - tau * v * v^T with v[k] = 1, H * x = beta * e_k
+            double alpha = qr[k * cols + k];
+            double beta = alpha > 0 ? -norm : norm;
+            double scale = 1 / (alpha - beta);
+
+            for(int row = k + 1; row < rows; row++) {
+                qr[row * cols + k] *= scale;
+            }
+
+            tau[k] = (beta - alpha) / beta;
+            rDiagonal[k] = beta;
+            qr[k * cols + k] = beta;
+
+            applyReflector(k, qr, cols, k + 1, w);
+
+            for(int col = k + 1; col < cols; col++) {
+                double element = qr[k * cols + col];
+                norms[col] -= element * element;
+
+                // recompute once most of the norm has cancelled out
+                if(norms[col] <= 10E-8 * exactNorms[col]) {
+                    norms[col] = 0;
+                    for(int row = k + 1; row < rows; row++) {
+                        norms[col] += qr[row * cols + col] * qr[row * cols + col];
+                    }
+                    exactNorms[col] = norms[col];
+                }
+            }
+        }
+    }
+
+    /**
+     * Applies reflector k to columns [colStart, width) of the row-major array x which has the same number of rows
+     * as the factored matrix: w = v^T * x, x = x - tau * v * w
+     */
+    private void applyReflector(int k, double[] x, int width, int colStart, double[] w) {
+        if(tau[k] == 0) {
+            return;
+        }
+
+        for(int col = colStart; col < width; col++) {
+            w[col] = x[k * width + col];
+        }
+
+        for(int row = k + 1; row < rows; row++) {
+            double v = qr[row * cols + k];
+            if(v == 0) {
+                continue;
+            }
+
+            int index = row * width;
+            for(int col = colStart; col < width; col++) {
+                w[col] += v * x[index + col];
+            }
+        }
+
+        for(int col = colStart; col < width; col++) {
+            w[col] *= tau[k];
+            x[k * width + col] -= w[col];
+        }
+
+        for(int row = k + 1; row < rows; row++) {
+            double v = qr[row * cols + k];
+            if(v == 0) {
+                continue;
+            }
+
+            int index = row * width;
+            for(int col = colStart; col < width; col++) {
+                x[index + col] -= v * w[col];
+            }
+        }
+    }
+
+    private void swapColumns(int col1, int col2) {
+        for(int row = 0; row < rows; row++) {
+            swap(qr, row * cols + col1, row * cols + col2);
+        }
+    }
+
+    private static void swap(double[] array, int i, int j) {
+        double temp = array[i];
+        array[i] = array[j];
+        array[j] = temp;
+    }
+
+    public int getRowsCount() {
+        return rows;
+    }
+
+    public int getColsCount() {
+        return cols;
+    }
+
+    /**
+     * @return numerical rank, number of diagonal elements of R above the tolerance
+     */
+    public int rank() {
+        return rank;
+    }
+
+    public boolean isFullRank() {
+        return rank == Math.min(rows, cols);
+    }
+
+    /**
+     * @return copy of the column permutation, column j of AP is column permutation[j] of A
+     */
+    public int[] getPermutation() {
+        return permutation.clone();
+    }
+
+    /**
+     * @return upper triangular min(rows, cols) x cols matrix R
+     */
+    public DenseMatrix getR() {
+        int steps = Math.min(rows, cols);
+        DenseMatrix r = new DenseMatrix(steps, cols);
+        double[] elements = r.getElements();
+
+        for(int row = 0; row < steps; row++) {
+            System.arraycopy(qr, row * cols + row, elements, row * cols + row, cols - row);
+        }
+
+        return r;
+    }
+
+    /**
+     * @return rows x min(rows, cols) matrix Q with orthonormal columns
+     */
+    public DenseMatrix getQ() {
+        int steps = Math.min(rows, cols);
+        double[] q = new double[rows * steps];
+        for(int i = 0; i < steps; i++) {
+            q[i * steps + i] = 1;
+        }
+
+        double[] w = new double[steps];
+        for(int k = steps - 1; k >= 0; k--) {
+            applyReflector(k, q, steps, k, w);
+        }
+
+        return new DenseMatrix(rows, steps, q, true);
+    }
+
+    /**
+     * Least squares solution of Ax = b, minimizes ||Ax - b||
+     */
+    public IVector solve(IVector freeVectorB) {
+        if(freeVectorB.getDimension() != rows) {
+            throw new IllegalArgumentException("Length of the vector must be equal to the number of rows of the matrix");
+        }
+
+        double[] x = solve(freeVectorB.toArray(), 1);
+
+        return new Vector(false, true, x);
+    }
+
+    /**
+     * Least squares solution for every column of B at once
+     * @param freeMatrixB matrix whose columns are the right-hand sides
+     * @return cols x B.cols matrix whose columns are the solutions
+     */
+    public DenseMatrix solve(IMatrix freeMatrixB) {
+        if(freeMatrixB.getRowsCount() != rows) {
+            throw new IllegalArgumentException("Number of rows must be equal to the number of rows of the matrix");
+        }
+
+        int width = freeMatrixB.getColsCount();
+        double[] x = solve(DenseMatrix.copyOf(freeMatrixB).getElements(), width);
+
+        return new DenseMatrix(cols, width, x, true);
+    }
+
+    /**
+     * @param b row-major rows x width right-hand sides, overwritten
+     * @return row-major cols x width solutions
+     */
+    private double[] solve(double[] b, int width) {
+        if(rows < cols) {
+            throw new IllegalArgumentException("Least squares needs at least as many rows as columns, use the SVD instead");
+        }
+
+        // y = Q^T * b
+        double[] w = new double[width];
+        for(int k = 0; k < cols; k++) {
+            applyReflector(k, b, width, 0, w);
+        }
+
+        // R[0:rank, 0:rank] * z = y[0:rank], z is zero for the dependent columns
+        for(int i = rank - 1; i >= 0; i--) {
+            int index = i * width;
+
+            for(int j = i + 1; j < rank; j++) {
+                double factor = qr[i * cols + j];
+                if(factor == 0) {
+                    continue;
+                }
+
+                int jIndex = j * width;
+                for(int col = 0; col < width; col++) {
+                    b[index + col] -= factor * b[jIndex + col];
+                }
+            }
+
+            double diagonal = rDiagonal[i];
+            for(int col = 0; col < width; col++) {
+                b[index + col] /= diagonal;
+            }
+        }
+
+        double[] x = new double[cols * width];
+        for(int i = 0; i < rank; i++) {
+            System.arraycopy(b, i * width, x, permutation[i] * width, width);
+        }
+
+        return x;
+    }
+}
@@ -0,0 +1,345 @@
+package math.matrix;
+
+import math.vector.IVector;
+import math.vector.Vector;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.stream.IntStream;
+
+/**
+ * Thin singular value decomposition A = U * S * V^T by the one-sided Jacobi method. Pairs of columns of A are rotated
+ * until all of them are orthogonal, the rotations accumulated into V. The columns are kept as rows of a flat
+ * row-major array, so every dot product and every rotation runs over contiguous memory.
+ *
+ * For a rows x cols matrix with rows >= cols, U is rows x cols, S is cols x cols and V is cols x cols. A matrix with
+ * fewer rows than columns is decomposed through its transpose, then U is rows x rows and V is cols x rows.
+ * Singular values are sorted in descending order. Columns of U which belong to zero singular values are zero.
+ */
+public class SingularValueDecomposition {
+
+    private static final double EPSILON = Math.ulp(1d);
+
+    private static final int MAX_SWEEPS = 60;
+
+    private int rows;
+
+    private int cols;
+
+    private double[] singularValues;
+
+    private DenseMatrix u;
+
+    private DenseMatrix v;
+
+    private int sweeps;
+
+    public SingularValueDecomposition(IMatrix matrix) {
+        this.rows = matrix.getRowsCount();
+        this.cols = matrix.getColsCount();
+
+        boolean transposed = rows < cols;
+        int m = transposed == true ? cols : rows;
+        int n = transposed == true ? rows : cols;
+
+        // row j of work is column j of the (transposed if wide) matrix
+        double[] work = new double[n * m];
+        for(int row = 0; row < rows; row++) {
+            for(int col = 0; col < cols; col++) {
+                double value = matrix.get(row, col);
+
+                if(transposed == true) {
+                    work[row * m + col] = value;
+                } else {
+                    work[col * m + row] = value;
+                }
+            }
+        }
+
+        // row j of vt is column j of V
+        double[] vt = new double[n * n];
+        for(int i = 0; i < n; i++) {
+            vt[i * n + i] = 1;
+        }
+
+        orthogonalize(work, vt, m, n);
+
+        double[] norms = new double[n];
+        for(int j = 0; j < n; j++) {
+            norms[j] = Math.sqrt(dot(work, j * m, work, j * m, m));
+        }
+
+        Integer[] order = IntStream.range(0, n).boxed().toArray(Integer[]::new);
+        Arrays.sort(order, Comparator.comparingDouble((Integer j) -> norms[j]).reversed());
+
+        singularValues = new double[n];
+        double[] left = new double[m * n];
+        double[] right = new double[n * n];
+
+        for(int k = 0; k < n; k++) {
+            int j = order[k];
+            double sigma = norms[j];
+            singularValues[k] = sigma;
+
+            if(sigma != 0) {
+                for(int i = 0; i < m; i++) {
+                    left[i * n + k] = work[j * m + i] / sigma;
+                }
+            }
+
+            for(int i = 0; i < n; i++) {
+                right[i * n + k] = vt[j * n + i];
+            }
+        }
+
+        DenseMatrix leftMatrix = new DenseMatrix(m, n, left, true);
+        DenseMatrix rightMatrix = new DenseMatrix(n, n, right, true);
+
+        // A^T = U' S V'^T gives A = V' S U'^T
+        this.u = transposed == true ? rightMatrix : leftMatrix;
+        this.v = transposed == true ? leftMatrix : rightMatrix;
+    }
+
+    /**
+     * Sweeps over all pairs of columns until every pair is orthogonal to working precision
+     */
+    private void orthogonalize(double[] work, double[] vt, int m, int n) {
+        double[] norms = new double[n];
+        boolean rotated = true;
+
+        for(sweeps = 0; sweeps < MAX_SWEEPS && rotated == true; sweeps++) {
+            rotated = false;
+
+            // squared column norms, recomputed every sweep and updated exactly by every rotation in between
+            for(int j = 0; j < n; j++) {
+                norms[j] = dot(work, j * m, work, j * m, m);
+            }
+
+            for(int p = 0; p < n - 1; p++) {
+                int pIndex = p * m;
+
+                for(int q = p + 1; q < n; q++) {
+                    int qIndex = q * m;
+
+                    double alpha = norms[p];
+                    double beta = norms[q];
+                    double gamma = dot(work, pIndex, work, qIndex, m);
+
+                    if(gamma == 0 || Math.abs(gamma) <= EPSILON * Math.sqrt(alpha * beta)) {
+                        continue;
+                    }
+
+                    rotated = true;
+
+                    // rotation which zeroes the off diagonal element of [[alpha, gamma], [gamma, beta]]
+                    double zeta = (beta - alpha) / (2 * gamma);
+                    double t = Math.abs(zeta) > 10E15
+                            ? 1 / (2 * zeta)
+                            : Math.signum(zeta == 0 ? 1 : zeta) / (Math.abs(zeta) + Math.sqrt(1 + zeta * zeta));
+                    double c = 1 / Math.sqrt(1 + t * t);
+                    double s = c * t;
+
+                    rotate(work, pIndex, qIndex, m, c, s);
+                    rotate(vt, p * n, q * n, n, c, s);
+
+                    norms[p] = alpha - t * gamma;
+                    norms[q] = beta + t * gamma;
+                }
+            }
+        }
+    }
+
+    private static void rotate(double[] elements, int pIndex, int qIndex, int length, double c, double s) {
+        for(int i = 0; i < length; i++) {
+            double ap = elements[pIndex + i];
+            double aq = elements[qIndex + i];
+
+            elements[pIndex + i] = c * ap - s * aq;
+            elements[qIndex + i] = s * ap + c * aq;
+        }
+    }
+
+    private static double dot(double[] a, int aIndex, double[] b, int bIndex, int length) {
+        double sum = 0;
+
+        for(int i = 0; i < length; i++) {
+            sum += a[aIndex + i] * b[bIndex + i];
+        }
+
+        return sum;
+    }
+
+    /**
+     * @return copy of the singular values in descending order
+     */
+    public double[] getSingularValues() {
+        return singularValues.clone();
+    }
+
+    public DenseMatrix getU() {
+        return u;
+    }
+
+    public DenseMatrix getV() {
+        return v;
+    }
+
+    /**
+     * @return diagonal matrix of the singular values
+     */
+    public DenseMatrix getS() {
+        DenseMatrix s = new DenseMatrix(singularValues.length, singularValues.length);
+
+        for(int i = 0; i < singularValues.length; i++) {
+            s.set(i, i, singularValues[i]);
+        }
+
+        return s;
+    }
+
+    /**
+     * @return number of Jacobi sweeps the decomposition took
+     */
+    public int getSweeps() {
+        return sweeps;
+    }
+
+    /**
+     * @return 2-norm of the matrix, the largest singular value
+     */
+    public double norm2() {
+        return singularValues[0];
+    }
+
+    /**
+     * @return ratio of the largest and the smallest singular value, infinity for a singular matrix
+     */
+    public double conditionNumber() {
+        double smallest = singularValues[singularValues.length - 1];
+
+        return smallest == 0 ? Double.POSITIVE_INFINITY : singularValues[0] / smallest;
+    }
+
+    /**
+     * Singular values lesser than max(rows, cols) * sigma_max * ulp(1) are treated as zero
+     */
+    public double defaultTolerance() {
+        return Math.max(rows, cols) * singularValues[0] * EPSILON;
+    }
+
+    public int rank() {
+        return rank(defaultTolerance());
+    }
+
+    /**
+     * @return number of singular values greater than tolerance
+     */
+    public int rank(double tolerance) {
+        int rank = 0;
+
+        while(rank < singularValues.length && singularValues[rank] > tolerance) {
+            rank++;
+        }
+
+        return rank;
+    }
+
+    public DenseMatrix pseudoInverse() {
+        return pseudoInverse(defaultTolerance());
+    }
+
+    /**
+     * Moore-Penrose pseudo-inverse V * S^+ * U^T, singular values not greater than tolerance are dropped
+     * @return cols x rows matrix
+     */
+    public DenseMatrix pseudoInverse(double tolerance) {
+        int rank = rank(tolerance);
+        int n = singularValues.length;
+        double[] uElements = u.getElements();
+        double[] vElements = v.getElements();
+
+        // U^T scaled by 1 / sigma, one contiguous row per singular value
+        double[] scaled = new double[rank * rows];
+        for(int j = 0; j < rows; j++) {
+            for(int k = 0; k < rank; k++) {
+                scaled[k * rows + j] = uElements[j * n + k] / singularValues[k];
+            }
+        }
+
+        DenseMatrix inverse = new DenseMatrix(cols, rows);
+        double[] elements = inverse.getElements();
+
+        for(int i = 0; i < cols; i++) {
+            int index = i * rows;
+
+            for(int k = 0; k < rank; k++) {
+                double factor = vElements[i * n + k];
+                if(factor == 0) {
+                    continue;
+                }
+
+                int scaledIndex = k * rows;
+                for(int j = 0; j < rows; j++) {
+                    elements[index + j] += factor * scaled[scaledIndex + j];
+                }
+            }
+        }
+
+        return inverse;
+    }
+
+    /**
+     * Minimum norm least squares solution of Ax = b, x = A^+ * b
+     */
+    public IVector solve(IVector freeVectorB) {
+        return solve(freeVectorB, defaultTolerance());
+    }
+
+    public IVector solve(IVector freeVectorB, double tolerance) {
+        if(freeVectorB.getDimension() != rows) {
+            throw new IllegalArgumentException("Length of the vector must be equal to the number of rows of the matrix");
+        }
+
+        int rank = rank(tolerance);
+        int n = singularValues.length;
+        double[] uElements = u.getElements();
+        double[] vElements = v.getElements();
+        double[] b = freeVectorB.toArray();
+
+        // c = S^+ * U^T * b
+        double[] coefficients = new double[rank];
+        for(int j = 0; j < rows; j++) {
+            int index = j * n;
+            for(int k = 0; k < rank; k++) {
+                coefficients[k] += uElements[index + k] * b[j];
+            }
+        }
+
+        // x = V * c
+        double[] x = new double[cols];
+        for(int i = 0; i < cols; i++) {
+            int index = i * n;
+            double sum = 0;
+            for(int k = 0; k < rank; k++) {
+                sum += vElements[index + k] * coefficients[k] / singularValues[k];
+            }
+            x[i] = sum;
+        }
+
+        return new Vector(false, true, x);
+    }
+
+    /**
+     * Minimum norm least squares solution for every column of B at once
+     */
+    public DenseMatrix solve(IMatrix freeMatrixB) {
+        if(freeMatrixB.getRowsCount() != rows) {
+            throw new IllegalArgumentException("Number of rows must be equal to the number of rows of the matrix");
+        }
+
+        DenseMatrix x = new DenseMatrix(cols, freeMatrixB.getColsCount());
+        MatrixMultiplication.multiplyInto(pseudoInverse(), freeMatrixB, x);
+
+        return x;
+    }
+}
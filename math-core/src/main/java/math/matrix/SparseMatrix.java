@@ -0,0 +1,626 @@
+package math.matrix;
+
+import math.vector.IVector;
+import math.vector.Vector;
+
+import java.util.Arrays;
+
+/**
+ * Sparse matrix in compressed sparse row (CSR) storage. Non zero elements of row i are values[rowPointers[i]]
+ * to values[rowPointers[i + 1] - 1], sorted by column, with their columns in columnIndices.
+ * The transpose of a CSR matrix is the same matrix in compressed sparse column storage, see {@link #nTranspose(boolean)}.
+ *
+ * Matrices should be created with {@link Builder}, {@link #set(int, int, double)} of an element that is not
+ * stored yet has to move all following elements. Operations inherited from {@link AbstractMatrix} that are not
+ * overridden here (determinant, nInvert, luDecomposition) go through dense storage, large systems should be solved
+ * with {@link IterativeSolver}.
+ */
+public class SparseMatrix extends AbstractMatrix {
+
+    private int rows;
+
+    private int cols;
+
+    private int[] rowPointers;
+
+    private int[] columnIndices;
+
+    private double[] values;
+
+    /**
+     * Empty (zero) matrix
+     */
+    public SparseMatrix(int rows, int cols) {
+        this(rows, cols, new int[rows + 1], new int[0], new double[0]);
+    }
+
+    /**
+     * Uses the given CSR arrays as storage, columns inside a row must be sorted and unique
+     */
+    public SparseMatrix(int rows, int cols, int[] rowPointers, int[] columnIndices, double[] values) {
+        if(rows < 1 || cols < 1) {
+            throw new IllegalArgumentException("Number columns and rows cannot be lower than 1");
+        }
+
+        if(rowPointers.length != rows + 1 || columnIndices.length < rowPointers[rows] || values.length < rowPointers[rows]) {
+            throw new IllegalArgumentException("CSR arrays do not correspond to the given number of rows");
+        }
+
+        this.rows = rows;
+        this.cols = cols;
+        this.rowPointers = rowPointers;
+        this.columnIndices = columnIndices;
+        this.values = values;
+    }
+
+    /**
+     * Copies any matrix, elements with absolute value lesser than epsilon are not stored
+     */
+    public static SparseMatrix copyOf(IMatrix matrix, double epsilon) {
+        if(matrix instanceof SparseMatrix) {
+            return (SparseMatrix) matrix.copy();
+        }
+
+        Builder builder = new Builder(matrix.getRowsCount(), matrix.getColsCount());
+
+        for(int row = 0; row < matrix.getRowsCount(); row++) {
+            for(int col = 0; col < matrix.getColsCount(); col++) {
+                double value = matrix.get(row, col);
+
+                if(Math.abs(value) >= epsilon) {
+                    builder.add(row, col, value);
+                }
+            }
+        }
+
+        return builder.build();
+    }
+
+    public static SparseMatrix identityMatrix(int dimensions) {
+        Builder builder = new Builder(dimensions, dimensions, dimensions);
+
+        for(int i = 0; i < dimensions; i++) {
+            builder.add(i, i, 1);
+        }
+
+        return builder.build();
+    }
+
+    @Override
+    public int getRowsCount() {
+        return rows;
+    }
+
+    @Override
+    public int getColsCount() {
+        return cols;
+    }
+
+    /**
+     * @return number of stored elements
+     */
+    public int getNonZeroCount() {
+        return rowPointers[rows];
+    }
+
+    public int[] getRowPointers() {
+        return rowPointers;
+    }
+
+    public int[] getColumnIndices() {
+        return columnIndices;
+    }
+
+    public double[] getValues() {
+        return values;
+    }
+
+    @Override
+    public double get(int row, int column) {
+        checkIndexes(row, column);
+
+        int index = find(row, column);
+
+        return index >= 0 ? values[index] : 0;
+    }
+
+    @Override
+    public IMatrix set(int row, int column, double value) {
+        checkIndexes(row, column);
+
+        int index = find(row, column);
+        if(index >= 0) {
+            values[index] = value;
+            return this;
+        }
+
+        if(value == 0) {
+            return this;
+        }
+
+        insert(-index - 1, row, column, value);
+
+        return this;
+    }
+
+    @Override
+    public IMatrix copy() {
+        int nonZeros = getNonZeroCount();
+
+        return new SparseMatrix(rows, cols, Arrays.copyOf(rowPointers, rows + 1),
+                Arrays.copyOf(columnIndices, nonZeros), Arrays.copyOf(values, nonZeros));
+    }
+
+    @Override
+    public IMatrix newInstance(int rows, int columns) {
+        return new SparseMatrix(rows, columns);
+    }
+
+    @Override
+    public IMatrix nTranspose(boolean liveView) {
+        if(liveView == true) {
+            return super.nTranspose(true);
+        }
+
+        int nonZeros = getNonZeroCount();
+        int[] transposedPointers = new int[cols + 1];
+        int[] transposedColumns = new int[nonZeros];
+        double[] transposedValues = new double[nonZeros];
+
+        for(int i = 0; i < nonZeros; i++) {
+            transposedPointers[columnIndices[i] + 1]++;
+        }
+
+        for(int col = 0; col < cols; col++) {
+            transposedPointers[col + 1] += transposedPointers[col];
+        }
+
+        // rows are visited in order, so the columns of the transposed rows come out sorted
+        int[] next = Arrays.copyOf(transposedPointers, cols);
+        for(int row = 0; row < rows; row++) {
+            for(int i = rowPointers[row]; i < rowPointers[row + 1]; i++) {
+                int position = next[columnIndices[i]]++;
+
+                transposedColumns[position] = row;
+                transposedValues[position] = values[i];
+            }
+        }
+
+        return new SparseMatrix(cols, rows, transposedPointers, transposedColumns, transposedValues);
+    }
+
+    @Override
+    public IMatrix add(IMatrix other) {
+        return addScaled(other, 1);
+    }
+
+    @Override
+    public IMatrix sub(IMatrix other) {
+        return addScaled(other, -1);
+    }
+
+    @Override
+    public IMatrix multiplyDouble(double multiplier) {
+        for(int i = getNonZeroCount() - 1; i >= 0; i--) {
+            values[i] *= multiplier;
+        }
+
+        return this;
+    }
+
+    /**
+     * Sparse * sparse gives a sparse matrix, sparse * dense a dense one.
+     */
+    @Override
+    public IMatrix nMultiply(IMatrix other) {
+        if(this.getColsCount() != other.getRowsCount()) {
+            throw new IllegalArgumentException("Matrices cannot be used in multiplication with these dimensions");
+        }
+
+        if(other instanceof SparseMatrix) {
+            return multiply(this, (SparseMatrix) other);
+        }
+
+        DenseMatrix result = new DenseMatrix(rows, other.getColsCount());
+        multiply(this, other, result);
+
+        return result;
+    }
+
+    /**
+     * out = this * vector, vector is treated as a column vector. Out cannot be the same vector as the given one.
+     */
+    public IVector multiply(IVector vector, IVector out) {
+        if(vector.getDimension() != cols || out.getDimension() != rows) {
+            throw new IllegalArgumentException("Vector dimensions do not correspond to the matrix dimensions");
+        }
+
+        if(vector == out) {
+            throw new IllegalArgumentException("Result vector cannot be the multiplied vector");
+        }
+
+        for(int row = 0; row < rows; row++) {
+            double sum = 0;
+
+            for(int i = rowPointers[row]; i < rowPointers[row + 1]; i++) {
+                sum += values[i] * vector.get(columnIndices[i]);
+            }
+
+            out.set(row, sum);
+        }
+
+        return out;
+    }
+
+    public IVector nMultiply(IVector vector) {
+        return multiply(vector, new Vector(rows, false));
+    }
+
+    /**
+     * out = this * x on plain arrays, used by the iterative solvers
+     */
+    void multiply(double[] x, double[] out) {
+        for(int row = 0; row < rows; row++) {
+            double sum = 0;
+
+            for(int i = rowPointers[row]; i < rowPointers[row + 1]; i++) {
+                sum += values[i] * x[columnIndices[i]];
+            }
+
+            out[row] = sum;
+        }
+    }
+
+    /**
+     * Main diagonal, zero where the element is not stored
+     */
+    double[] diagonal() {
+        double[] diagonal = new double[Math.min(rows, cols)];
+
+        for(int row = 0; row < diagonal.length; row++) {
+            int index = find(row, row);
+
+            if(index >= 0) {
+                diagonal[row] = values[index];
+            }
+        }
+
+        return diagonal;
+    }
+
+    @Override
+    public double[][] toArray() {
+        double[][] array = new double[rows][cols];
+
+        for(int row = 0; row < rows; row++) {
+            for(int i = rowPointers[row]; i < rowPointers[row + 1]; i++) {
+                array[row][columnIndices[i]] = values[i];
+            }
+        }
+
+        return array;
+    }
+
+    /**
+     * out = a * b for any b, every row of out is accumulated in a dense row first. Out must not be b.
+     */
+    static void multiply(SparseMatrix a, IMatrix b, IMatrix out) {
+        int outCols = b.getColsCount();
+
+        if(b instanceof DenseMatrix && out instanceof DenseMatrix) {
+            DenseMatrix denseB = (DenseMatrix) b;
+            DenseMatrix denseOut = (DenseMatrix) out;
+            double[] bElements = denseB.getElements();
+            double[] outElements = denseOut.getElements();
+
+            for(int row = 0; row < a.rows; row++) {
+                int outIndex = denseOut.getOffset() + row * denseOut.getStride();
+                Arrays.fill(outElements, outIndex, outIndex + outCols, 0);
+
+                for(int i = a.rowPointers[row]; i < a.rowPointers[row + 1]; i++) {
+                    double value = a.values[i];
+                    int bIndex = denseB.getOffset() + a.columnIndices[i] * denseB.getStride();
+
+                    for(int col = 0; col < outCols; col++) {
+                        outElements[outIndex + col] += value * bElements[bIndex + col];
+                    }
+                }
+            }
+
+            return;
+        }
+
+        double[] accumulator = new double[outCols];
+        for(int row = 0; row < a.rows; row++) {
+            Arrays.fill(accumulator, 0);
+
+            for(int i = a.rowPointers[row]; i < a.rowPointers[row + 1]; i++) {
+                double value = a.values[i];
+                int k = a.columnIndices[i];
+
+                for(int col = 0; col < outCols; col++) {
+                    accumulator[col] += value * b.get(k, col);
+                }
+            }
+
+            for(int col = 0; col < outCols; col++) {
+                out.set(row, col, accumulator[col]);
+            }
+        }
+    }
+
+    /**
+     * Gustavson's row by row product, the non zero pattern of each result row is collected in a dense marker array
+     */
+    static SparseMatrix multiply(SparseMatrix a, SparseMatrix b) {
+        int outCols = b.cols;
+        int[] pointers = new int[a.rows + 1];
+        int[] columns = new int[Math.max(a.getNonZeroCount(), b.getNonZeroCount())];
+        double[] products = new double[columns.length];
+
+        double[] accumulator = new double[outCols];
+        int[] marker = new int[outCols];
+        Arrays.fill(marker, -1);
+        int[] rowColumns = new int[outCols];
+
+        int nonZeros = 0;
+        for(int row = 0; row < a.rows; row++) {
+            int rowCount = 0;
+
+            for(int i = a.rowPointers[row]; i < a.rowPointers[row + 1]; i++) {
+                double value = a.values[i];
+                int k = a.columnIndices[i];
+
+                for(int j = b.rowPointers[k]; j < b.rowPointers[k + 1]; j++) {
+                    int col = b.columnIndices[j];
+
+                    if(marker[col] != row) {
+                        marker[col] = row;
+                        accumulator[col] = 0;
+                        rowColumns[rowCount++] = col;
+                    }
+
+                    accumulator[col] += value * b.values[j];
+                }
+            }
+
+            Arrays.sort(rowColumns, 0, rowCount);
+
+            if(nonZeros + rowCount > columns.length) {
+                int capacity = Math.max(2 * columns.length, nonZeros + rowCount);
+                columns = Arrays.copyOf(columns, capacity);
+                products = Arrays.copyOf(products, capacity);
+            }
+
+            for(int i = 0; i < rowCount; i++) {
+                columns[nonZeros] = rowColumns[i];
+                products[nonZeros] = accumulator[rowColumns[i]];
+                nonZeros++;
+            }
+
+            pointers[row + 1] = nonZeros;
+        }
+
+        return new SparseMatrix(a.rows, outCols, pointers, columns, products);
+    }
+
+    /**
+     * this = this + multiplier * other, two sparse matrices are merged row by row
+     */
+    private IMatrix addScaled(IMatrix other, double multiplier) {
+        if(this.getRowsCount() != other.getRowsCount() || this.getColsCount() != other.getColsCount()) {
+            throw new IllegalArgumentException("Matrices must be of same sizes");
+        }
+
+        if(other instanceof SparseMatrix == false) {
+            for(int row = 0; row < rows; row++) {
+                for(int col = 0; col < cols; col++) {
+                    double value = other.get(row, col);
+
+                    if(value != 0) {
+                        set(row, col, get(row, col) + multiplier * value);
+                    }
+                }
+            }
+
+            return this;
+        }
+
+        SparseMatrix sparse = (SparseMatrix) other;
+        int capacity = this.getNonZeroCount() + sparse.getNonZeroCount();
+        int[] pointers = new int[rows + 1];
+        int[] columns = new int[capacity];
+        double[] sums = new double[capacity];
+
+        int nonZeros = 0;
+        for(int row = 0; row < rows; row++) {
+            int i = this.rowPointers[row], iEnd = this.rowPointers[row + 1];
+            int j = sparse.rowPointers[row], jEnd = sparse.rowPointers[row + 1];
+
+            while(i < iEnd || j < jEnd) {
+                int thisCol = i < iEnd ? this.columnIndices[i] : Integer.MAX_VALUE;
+                int otherCol = j < jEnd ? sparse.columnIndices[j] : Integer.MAX_VALUE;
+
+                if(thisCol < otherCol) {
+                    columns[nonZeros] = thisCol;
+                    sums[nonZeros] = this.values[i++];
+                } else if(thisCol > otherCol) {
+                    columns[nonZeros] = otherCol;
+                    sums[nonZeros] = multiplier * sparse.values[j++];
+                } else {
+                    columns[nonZeros] = thisCol;
+                    sums[nonZeros] = this.values[i++] + multiplier * sparse.values[j++];
+                }
+
+                nonZeros++;
+            }
+
+            pointers[row + 1] = nonZeros;
+        }
+
+        this.rowPointers = pointers;
+        this.columnIndices = columns;
+        this.values = sums;
+
+        return this;
+    }
+
+    /**
+     * @return index of the element or -(insertion point) - 1 if it is not stored
+     */
+    private int find(int row, int column) {
+        int index = Arrays.binarySearch(columnIndices, rowPointers[row], rowPointers[row + 1], column);
+
+        return index;
+    }
+
+    private void insert(int index, int row, int column, double value) {
+        int nonZeros = getNonZeroCount();
+
+        if(nonZeros == columnIndices.length || nonZeros == values.length) {
+            int capacity = Math.max(8, 2 * nonZeros);
+            columnIndices = Arrays.copyOf(columnIndices, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        System.arraycopy(columnIndices, index, columnIndices, index + 1, nonZeros - index);
+        System.arraycopy(values, index, values, index + 1, nonZeros - index);
+        columnIndices[index] = column;
+        values[index] = value;
+
+        for(int i = row + 1; i <= rows; i++) {
+            rowPointers[i]++;
+        }
+    }
+
+    private void checkIndexes(int row, int column) {
+        if(row < 0 || row >= rows || column < 0 || column >= cols) {
+            throw new IllegalArgumentException("Row or column index is lesser than zero or exceeds the max row or column");
+        }
+    }
+
+    /**
+     * Collects elements in any order as (row, column, value) triplets and sorts them into CSR storage.
+     * Elements added more than once at the same position are summed, which is how finite element style
+     * assembly works.
+     */
+    public static class Builder {
+
+        private int rows;
+
+        private int cols;
+
+        private int size;
+
+        private int[] tripletRows;
+
+        private int[] tripletCols;
+
+        private double[] tripletValues;
+
+        public Builder(int rows, int cols) {
+            this(rows, cols, 16);
+        }
+
+        /**
+         * @param expectedNonZeros initial capacity, the builder grows if more elements are added
+         */
+        public Builder(int rows, int cols, int expectedNonZeros) {
+            if(rows < 1 || cols < 1) {
+                throw new IllegalArgumentException("Number columns and rows cannot be lower than 1");
+            }
+
+            this.rows = rows;
+            this.cols = cols;
+
+            int capacity = Math.max(1, expectedNonZeros);
+            this.tripletRows = new int[capacity];
+            this.tripletCols = new int[capacity];
+            this.tripletValues = new double[capacity];
+        }
+
+        public Builder add(int row, int column, double value) {
+            if(row < 0 || row >= rows || column < 0 || column >= cols) {
+                throw new IllegalArgumentException("Row or column index is lesser than zero or exceeds the max row or column");
+            }
+
+            if(size == tripletRows.length) {
+                int capacity = 2 * size;
+                tripletRows = Arrays.copyOf(tripletRows, capacity);
+                tripletCols = Arrays.copyOf(tripletCols, capacity);
+                tripletValues = Arrays.copyOf(tripletValues, capacity);
+            }
+
+            tripletRows[size] = row;
+            tripletCols[size] = column;
+            tripletValues[size] = value;
+            size++;
+
+            return this;
+        }
+
+        public SparseMatrix build() {
+            int[] pointers = new int[rows + 1];
+            for(int i = 0; i < size; i++) {
+                pointers[tripletRows[i] + 1]++;
+            }
+
+            for(int row = 0; row < rows; row++) {
+                pointers[row + 1] += pointers[row];
+            }
+
+            // counting sort by row, then every row is sorted by column and duplicates are summed
+            int[] columns = new int[size];
+            double[] values = new double[size];
+            int[] next = Arrays.copyOf(pointers, rows);
+            for(int i = 0; i < size; i++) {
+                int position = next[tripletRows[i]]++;
+
+                columns[position] = tripletCols[i];
+                values[position] = tripletValues[i];
+            }
+
+            int[] compressedPointers = new int[rows + 1];
+            int nonZeros = 0;
+            for(int row = 0; row < rows; row++) {
+                int start = pointers[row];
+                int end = pointers[row + 1];
+                sortRow(columns, values, start, end);
+
+                for(int i = start; i < end; i++) {
+                    if(nonZeros > compressedPointers[row] && columns[nonZeros - 1] == columns[i]) {
+                        values[nonZeros - 1] += values[i];
+                    } else {
+                        columns[nonZeros] = columns[i];
+                        values[nonZeros] = values[i];
+                        nonZeros++;
+                    }
+                }
+
+                compressedPointers[row + 1] = nonZeros;
+            }
+
+            return new SparseMatrix(rows, cols, compressedPointers, columns, values);
+        }
+
+        /**
+         * Insertion sort, rows of sparse matrices are short
+         */
+        private static void sortRow(int[] columns, double[] values, int start, int end) {
+            for(int i = start + 1; i < end; i++) {
+                int column = columns[i];
+                double value = values[i];
+
+                int j = i - 1;
+                while(j >= start && columns[j] > column) {
+                    columns[j + 1] = columns[j];
+                    values[j + 1] = values[j];
+                    j--;
+                }
+
+                columns[j + 1] = column;
+                values[j + 1] = value;
+            }
+        }
+    }
+}
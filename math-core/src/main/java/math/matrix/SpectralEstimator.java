@@ -0,0 +1,281 @@
+package math.matrix;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Estimates of the extreme eigenvalues of large matrices which only need products of the matrix with a vector,
+ * like {@link IterativeSolver}. The spectral radius of any square matrix comes from the power iteration, the extreme
+ * eigenvalues of a symmetric matrix from the Lanczos iteration. Both start from the same fixed pseudo-random vector,
+ * so the estimates are reproducible.
+ */
+public class SpectralEstimator {
+
+    private static final double DEFAULT_TOLERANCE = 10E-7;
+
+    private static final int DEFAULT_MAX_ITERATIONS = 1000;
+
+    private static final long SEED = 42;
+
+    /**
+     * Number of Lanczos steps between two checks of the extreme Ritz values
+     */
+    private static final int CHECK_INTERVAL = 8;
+
+    /**
+     * Largest double array, a few elements below Integer.MAX_VALUE as in the JDK collections
+     */
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    private double tolerance;
+
+    private int maxIterations;
+
+    private int iterations;
+
+    private boolean converged;
+
+    public SpectralEstimator() {
+        this(DEFAULT_TOLERANCE, DEFAULT_MAX_ITERATIONS);
+    }
+
+    /**
+     * @param tolerance relative change of the estimate at which the iteration stops
+     */
+    public SpectralEstimator(double tolerance, int maxIterations) {
+        if(tolerance <= 0 || maxIterations < 1) {
+            throw new IllegalArgumentException("Tolerance and max number of iterations must be greater than 0");
+        }
+
+        this.tolerance = tolerance;
+        this.maxIterations = maxIterations;
+    }
+
+    /**
+     * Power iteration estimate of max |lambda|. The growth factors ||A * x_k|| of the normalized iterates are averaged
+     * geometrically over the later half of the iterations, so the estimate also settles when the dominant eigenvalues
+     * are a complex pair or of opposite signs and the single factors oscillate.
+     */
+    public double spectralRadius(IMatrix matrix) {
+        int n = checkSquare(matrix);
+
+        double[] x = startingVector(n);
+        double[] y = new double[n];
+        double[] logGrowth = new double[maxIterations];
+
+        double estimate = 0;
+        converged = false;
+
+        for(iterations = 0; iterations < maxIterations; ) {
+            IterativeSolver.multiply(matrix, x, y);
+
+            double norm = IterativeSolver.norm(y);
+            if(norm == 0) {
+                // x is in the null space, every eigenvalue met so far is zero
+                converged = true;
+                iterations++;
+                return 0;
+            }
+
+            logGrowth[iterations++] = Math.log(norm);
+
+            for(int i = 0; i < n; i++) {
+                x[i] = y[i] / norm;
+            }
+
+            double sum = 0;
+            int windowStart = iterations / 2;
+            for(int k = windowStart; k < iterations; k++) {
+                sum += logGrowth[k];
+            }
+
+            double previous = estimate;
+            estimate = Math.exp(sum / (iterations - windowStart));
+
+            if(iterations > 2 && Math.abs(estimate - previous) <= tolerance * estimate) {
+                converged = true;
+                break;
+            }
+        }
+
+        return estimate;
+    }
+
+    /**
+     * Lanczos iteration with full reorthogonalization for a symmetric matrix. The extreme Ritz values approach the
+     * extreme eigenvalues from the inside after a few tens of steps, long before the inner ones.
+     * @param steps dimension of the Krylov space, at most the dimension of the matrix
+     * @return eigenvalues of the projected tridiagonal matrix in ascending order
+     */
+    public double[] lanczos(IMatrix matrix, int steps) {
+        int n = checkSquare(matrix);
+        if(steps < 1) {
+            throw new IllegalArgumentException("Number of steps must be greater than 0");
+        }
+
+        double[] ritz = lanczos(matrix, Math.min(steps, n), false);
+        converged = true;
+
+        return ritz;
+    }
+
+    /**
+     * Spectral radius of a symmetric matrix from the extreme Ritz values of the Lanczos iteration. The Krylov space
+     * is grown until the estimate changes by less than the tolerance over {@link #CHECK_INTERVAL} steps. The estimate
+     * never exceeds the true value.
+     */
+    public double symmetricSpectralRadius(IMatrix matrix) {
+        int n = checkSquare(matrix);
+
+        double[] ritz = lanczos(matrix, Math.min(n, maxIterations), true);
+
+        return Math.max(Math.abs(ritz[0]), Math.abs(ritz[ritz.length - 1]));
+    }
+
+    /**
+     * The basis grows with the Krylov space, so an iteration which settles after a few tens of steps only stores
+     * that many vectors.
+     * @param untilConverged stop once the extreme Ritz values settle, checked every {@link #CHECK_INTERVAL} steps
+     */
+    private double[] lanczos(IMatrix matrix, int steps, boolean untilConverged) {
+        int n = matrix.getRowsCount();
+
+        double[] basis = new double[0];
+        double[] alpha = new double[steps];
+        double[] beta = new double[steps];
+        double[] w = new double[n];
+        double[] q = startingVector(n);
+
+        double estimate = 0;
+        converged = false;
+
+        int m = 0;
+        while(m < steps) {
+            if(basis.length < (m + 1) * (long) n) {
+                // doubled and at most as large as an array can be, basisSize reports a vector which does not fit
+                long capacity = Math.min(Math.min(steps, Math.max(2L * m, 4 * CHECK_INTERVAL)), MAX_ARRAY_SIZE / n);
+                basis = Arrays.copyOf(basis, basisSize((int) Math.max(capacity, m + 1), n));
+            }
+
+            System.arraycopy(q, 0, basis, m * n, n);
+            IterativeSolver.multiply(matrix, q, w);
+
+            alpha[m] = IterativeSolver.dot(q, w);
+
+            // orthogonalize against the whole basis, the three term recurrence alone loses orthogonality. Twice, once
+            // the space is nearly invariant w is mostly rounding error and a single pass leaves it far from orthogonal
+            for(int pass = 0; pass < 2; pass++) {
+                for(int j = 0; j <= m; j++) {
+                    int index = j * n;
+
+                    double projection = 0;
+                    for(int i = 0; i < n; i++) {
+                        projection += basis[index + i] * w[i];
+                    }
+
+                    for(int i = 0; i < n; i++) {
+                        w[i] -= projection * basis[index + i];
+                    }
+                }
+            }
+
+            double norm = IterativeSolver.norm(w);
+            m++;
+
+            // the Krylov space is invariant, its Ritz values are exact eigenvalues
+            if(norm <= Math.ulp(1d) * Math.abs(alpha[m - 1]) || norm == 0) {
+                converged = true;
+                break;
+            }
+
+            if(untilConverged == true && m % CHECK_INTERVAL == 0) {
+                double[] ritz = ritzValues(alpha, beta, m);
+                double previous = estimate;
+                estimate = Math.max(Math.abs(ritz[0]), Math.abs(ritz[m - 1]));
+
+                if(previous != 0 && Math.abs(estimate - previous) <= tolerance * estimate) {
+                    converged = true;
+                    iterations = m;
+                    return ritz;
+                }
+            }
+
+            beta[m - 1] = norm;
+            for(int i = 0; i < n; i++) {
+                q[i] = w[i] / norm;
+            }
+        }
+
+        // with all n steps the Ritz values are the eigenvalues
+        converged |= m == n;
+        iterations = m;
+
+        return ritzValues(alpha, beta, m);
+    }
+
+    /**
+     * @return number of doubles of a basis of the given number of vectors
+     */
+    private static int basisSize(int vectors, int n) {
+        long size = (long) vectors * n;
+        if(size > MAX_ARRAY_SIZE) {
+            throw new IllegalArgumentException("Krylov basis of " + vectors + " vectors of dimension " + n
+                    + " does not fit in an array, lower the max number of iterations");
+        }
+
+        return (int) size;
+    }
+
+    /**
+     * Eigenvalues of the m x m tridiagonal matrix with diagonal alpha and off diagonal beta
+     */
+    private static double[] ritzValues(double[] alpha, double[] beta, int m) {
+        double[] d = new double[m];
+        double[] e = new double[m];
+        for(int i = 0; i < m; i++) {
+            d[i] = alpha[i];
+            if(i > 0) {
+                e[i] = beta[i - 1];
+            }
+        }
+
+        SymmetricEigenDecomposition.tridiagonalQL(d, e, null, m);
+
+        return d;
+    }
+
+    /**
+     * @return number of iterations of the power iteration, or the size of the Krylov basis, of the last estimate
+     */
+    public int getIterations() {
+        return iterations;
+    }
+
+    public boolean hasConverged() {
+        return converged;
+    }
+
+    private static int checkSquare(IMatrix matrix) {
+        if(matrix.getRowsCount() != matrix.getColsCount()) {
+            throw new IllegalArgumentException("Matrix must be a square matrix");
+        }
+
+        return matrix.getRowsCount();
+    }
+
+    private static double[] startingVector(int n) {
+        Random random = new Random(SEED);
+        double[] x = new double[n];
+
+        for(int i = 0; i < n; i++) {
+            x[i] = random.nextDouble() - 0.5;
+        }
+
+        double norm = IterativeSolver.norm(x);
+        for(int i = 0; i < n; i++) {
+            x[i] /= norm;
+        }
+
+        return x;
+    }
+}
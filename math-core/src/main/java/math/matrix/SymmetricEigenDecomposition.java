@@ -0,0 +1,381 @@
+package math.matrix;
+
+/**
+ * Eigenvalues and eigenvectors of a real symmetric matrix, A = V * D * V^T. The matrix is reduced to tridiagonal form
+ * by Householder transformations and the tridiagonal matrix is diagonalized by the implicitly shifted QL method
+ * (tred2 and tql2 of EISPACK). Only the lower triangle of A is read.
+ *
+ * The rotations of the QL method are applied to V^T kept row-major, so each one runs over two contiguous rows.
+ * Without eigenvectors the accumulation of the transformations and all rotations are skipped.
+ */
+public class SymmetricEigenDecomposition {
+
+    private static final double EPSILON = Math.ulp(1d);
+
+    private static final int MAX_ITERATIONS = 30;
+
+    private int size;
+
+    /**
+     * Eigenvalues in ascending order
+     */
+    private double[] eigenvalues;
+
+    /**
+     * Row i is the eigenvector of eigenvalue i, null if eigenvectors were not computed
+     */
+    private double[] vectors;
+
+    public SymmetricEigenDecomposition(IMatrix matrix) {
+        this(matrix, true);
+    }
+
+    /**
+     * @param computeVectors false computes only the eigenvalues, which is several times faster
+     */
+    public SymmetricEigenDecomposition(IMatrix matrix, boolean computeVectors) {
+        if(matrix.getRowsCount() != matrix.getColsCount()) {
+            throw new IllegalArgumentException("Matrix must be a square matrix");
+        }
+
+        this.size = matrix.getRowsCount();
+        int n = size;
+
+        double[] v = new double[n * n];
+        for(int row = 0; row < n; row++) {
+            for(int col = 0; col <= row; col++) {
+                double value = matrix.get(row, col);
+                v[row * n + col] = value;
+                v[col * n + row] = value;
+            }
+        }
+
+        double[] d = new double[n];
+        double[] e = new double[n];
+
+        tridiagonalize(v, d, e, n, computeVectors);
+
+        double[] vt = null;
+        if(computeVectors == true) {
+            vt = new double[n * n];
+            for(int row = 0; row < n; row++) {
+                for(int col = 0; col < n; col++) {
+                    vt[col * n + row] = v[row * n + col];
+                }
+            }
+        }
+
+        tridiagonalQL(d, e, vt, n);
+
+        this.eigenvalues = d;
+        this.vectors = vt;
+    }
+
+    /**
+     * Householder reduction to a symmetric tridiagonal matrix (tred2). On return d holds the diagonal, e[1..n-1] the
+     * subdiagonal and, if accumulate is true, v holds the orthogonal transformation.
+     */
+    private static void tridiagonalize(double[] v, double[] d, double[] e, int n, boolean accumulate) {
+        for(int j = 0; j < n; j++) {
+            d[j] = v[(n - 1) * n + j];
+        }
+
+        for(int i = n - 1; i > 0; i--) {
+            double scale = 0;
+            double h = 0;
+
+            for(int k = 0; k < i; k++) {
+                scale += Math.abs(d[k]);
+            }
+
+            if(scale == 0) {
+                e[i] = d[i - 1];
+
+                for(int j = 0; j < i; j++) {
+                    d[j] = v[(i - 1) * n + j];
+                    v[i * n + j] = 0;
+                    v[j * n + i] = 0;
+                }
+            } else {
+                for(int k = 0; k < i; k++) {
+                    d[k] /= scale;
+                    h += d[k] * d[k];
+                }
+
+                double f = d[i - 1];
+                double g = f > 0 ? -Math.sqrt(h) : Math.sqrt(h);
+
+                e[i] = scale * g;
+                h -= f * g;
+                d[i - 1] = f - g;
+
+                for(int j = 0; j < i; j++) {
+                    e[j] = 0;
+                }
+
+                // e = A * u for the lower triangle of A
+                for(int j = 0; j < i; j++) {
+                    f = d[j];
+                    v[j * n + i] = f;
+                    g = e[j] + v[j * n + j] * f;
+
+                    for(int k = j + 1; k <= i - 1; k++) {
+                        g += v[k * n + j] * d[k];
+                        e[k] += v[k * n + j] * f;
+                    }
+
+                    e[j] = g;
+                }
+
+                f = 0;
+                for(int j = 0; j < i; j++) {
+                    e[j] /= h;
+                    f += e[j] * d[j];
+                }
+
+                double hh = f / (h + h);
+                for(int j = 0; j < i; j++) {
+                    e[j] -= hh * d[j];
+                }
+
+                for(int j = 0; j < i; j++) {
+                    f = d[j];
+                    g = e[j];
+
+                    for(int k = j; k <= i - 1; k++) {
+                        v[k * n + j] -= f * e[k] + g * d[k];
+                    }
+
+                    d[j] = v[(i - 1) * n + j];
+                    v[i * n + j] = 0;
+                }
+            }
+
+            d[i] = h;
+        }
+
+        if(accumulate == false) {
+            for(int j = 0; j < n; j++) {
+                d[j] = v[j * n + j];
+            }
+            e[0] = 0;
+            return;
+        }
+
+        for(int i = 0; i < n - 1; i++) {
+            v[(n - 1) * n + i] = v[i * n + i];
+            v[i * n + i] = 1;
+
+            double h = d[i + 1];
+            if(h != 0) {
+                for(int k = 0; k <= i; k++) {
+                    d[k] = v[k * n + i + 1] / h;
+                }
+
+                for(int j = 0; j <= i; j++) {
+                    double g = 0;
+                    for(int k = 0; k <= i; k++) {
+                        g += v[k * n + i + 1] * v[k * n + j];
+                    }
+
+                    for(int k = 0; k <= i; k++) {
+                        v[k * n + j] -= g * d[k];
+                    }
+                }
+            }
+
+            for(int k = 0; k <= i; k++) {
+                v[k * n + i + 1] = 0;
+            }
+        }
+
+        for(int j = 0; j < n; j++) {
+            d[j] = v[(n - 1) * n + j];
+            v[(n - 1) * n + j] = 0;
+        }
+
+        v[(n - 1) * n + n - 1] = 1;
+        e[0] = 0;
+    }
+
+    /**
+     * Implicitly shifted QL iteration on a symmetric tridiagonal matrix (tql2). d holds the diagonal and e[1..n-1] the
+     * subdiagonal, on return d holds the eigenvalues in ascending order. If vt is not null, its rows are rotated along,
+     * so rows of an orthogonal matrix given in vt become the eigenvectors.
+     */
+    static void tridiagonalQL(double[] d, double[] e, double[] vt, int n) {
+        for(int i = 1; i < n; i++) {
+            e[i - 1] = e[i];
+        }
+        e[n - 1] = 0;
+
+        double f = 0;
+        double norm = 0;
+
+        for(int l = 0; l < n; l++) {
+            norm = Math.max(norm, Math.abs(d[l]) + Math.abs(e[l]));
+
+            int m = l;
+            while(m < n && Math.abs(e[m]) > EPSILON * norm) {
+                m++;
+            }
+
+            if(m > l) {
+                int iterations = 0;
+
+                do {
+                    if(++iterations > MAX_ITERATIONS * n) {
+                        throw new IllegalStateException("Eigenvalues did not converge");
+                    }
+
+                    // shift from the 2x2 block at l
+                    double g = d[l];
+                    double p = (d[l + 1] - g) / (2 * e[l]);
+                    double r = hypot(p, 1);
+                    if(p < 0) {
+                        r = -r;
+                    }
+
+                    d[l] = e[l] / (p + r);
+                    d[l + 1] = e[l] * (p + r);
+                    double dl1 = d[l + 1];
+                    double h = g - d[l];
+
+                    for(int i = l + 2; i < n; i++) {
+                        d[i] -= h;
+                    }
+                    f += h;
+
+                    p = d[m];
+                    double c = 1, c2 = c, c3 = c;
+                    double el1 = e[l + 1];
+                    double s = 0, s2 = 0;
+
+                    for(int i = m - 1; i >= l; i--) {
+                        c3 = c2;
+                        c2 = c;
+                        s2 = s;
+                        g = c * e[i];
+                        h = c * p;
+                        r = hypot(p, e[i]);
+                        e[i + 1] = s * r;
+                        s = e[i] / r;
+                        c = p / r;
+                        p = c * d[i] - s * g;
+                        d[i + 1] = h + s * (c * g + s * d[i]);
+
+                        if(vt != null) {
+                            int iIndex = i * n;
+                            int nextIndex = (i + 1) * n;
+
+                            for(int k = 0; k < n; k++) {
+                                double next = vt[nextIndex + k];
+                                vt[nextIndex + k] = s * vt[iIndex + k] + c * next;
+                                vt[iIndex + k] = c * vt[iIndex + k] - s * next;
+                            }
+                        }
+                    }
+
+                    p = -s * s2 * c3 * el1 * e[l] / dl1;
+                    e[l] = s * p;
+                    d[l] = c * p;
+                } while(Math.abs(e[l]) > EPSILON * norm);
+            }
+
+            d[l] += f;
+            e[l] = 0;
+        }
+
+        // selection sort, every swap of eigenvectors is a swap of two rows
+        for(int i = 0; i < n - 1; i++) {
+            int k = i;
+            for(int j = i + 1; j < n; j++) {
+                if(d[j] < d[k]) {
+                    k = j;
+                }
+            }
+
+            if(k != i) {
+                double temp = d[k];
+                d[k] = d[i];
+                d[i] = temp;
+
+                if(vt != null) {
+                    double[] row = new double[n];
+                    System.arraycopy(vt, i * n, row, 0, n);
+                    System.arraycopy(vt, k * n, vt, i * n, n);
+                    System.arraycopy(row, 0, vt, k * n, n);
+                }
+            }
+        }
+    }
+
+    /**
+     * sqrt(a^2 + b^2) without overflow of the squares
+     */
+    private static double hypot(double a, double b) {
+        a = Math.abs(a);
+        b = Math.abs(b);
+
+        double max = Math.max(a, b);
+        if(max == 0) {
+            return 0;
+        }
+
+        double ratio = Math.min(a, b) / max;
+        return max * Math.sqrt(1 + ratio * ratio);
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * @return copy of the eigenvalues in ascending order
+     */
+    public double[] getEigenvalues() {
+        return eigenvalues.clone();
+    }
+
+    /**
+     * @return matrix whose column i is the normalized eigenvector of eigenvalue i
+     */
+    public DenseMatrix getV() {
+        checkVectors();
+
+        DenseMatrix v = new DenseMatrix(size, size);
+        for(int row = 0; row < size; row++) {
+            for(int col = 0; col < size; col++) {
+                v.set(row, col, vectors[col * size + row]);
+            }
+        }
+
+        return v;
+    }
+
+    /**
+     * @return diagonal matrix of the eigenvalues
+     */
+    public DenseMatrix getD() {
+        DenseMatrix d = new DenseMatrix(size, size);
+
+        for(int i = 0; i < size; i++) {
+            d.set(i, i, eigenvalues[i]);
+        }
+
+        return d;
+    }
+
+    /**
+     * @return largest absolute value of the eigenvalues, which for a symmetric matrix is also its 2-norm
+     */
+    public double spectralRadius() {
+        return Math.max(Math.abs(eigenvalues[0]), Math.abs(eigenvalues[size - 1]));
+    }
+
+    private void checkVectors() {
+        if(vectors == null) {
+            throw new IllegalStateException("Eigenvectors were not computed");
+        }
+    }
+}
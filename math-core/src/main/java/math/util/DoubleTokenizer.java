@@ -0,0 +1,313 @@
+package math.util;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+
+/**
+ * Reads whitespace separated doubles line by line straight from the bytes of a buffer (ASCII text, '\n' or "\r\n"
+ * line ends). Numbers of up to 19 significant digits are converted to the correctly rounded double without creating
+ * a String: small mantissas and exponents exactly in double arithmetic, the rest by the Eisel-Lemire algorithm
+ * (a 128-bit multiplication by a truncated power of ten). Only the tokens where that is not conclusive
+ * (longer mantissas, exact halfway cases, NaN, Infinity, subnormals) go through Double.parseDouble.
+ */
+public class DoubleTokenizer {
+
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+            1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    // largest mantissa every double can represent exactly
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+
+    private static final int MAX_DIGITS = 19;
+
+    private static final int MIN_TABLE_EXPONENT = -348;
+
+    private static final int MAX_TABLE_EXPONENT = 347;
+
+    private static final long LOW_32_BITS = 0xFFFFFFFFL;
+
+    // 128-bit mantissas of the powers of ten, rounded down, high and low 64 bits
+    private static final long[] POWERS_HIGH = new long[MAX_TABLE_EXPONENT - MIN_TABLE_EXPONENT + 1];
+
+    private static final long[] POWERS_LOW = new long[MAX_TABLE_EXPONENT - MIN_TABLE_EXPONENT + 1];
+
+    static {
+        BigInteger ten = BigInteger.TEN;
+
+        for(int exponent = MIN_TABLE_EXPONENT; exponent <= MAX_TABLE_EXPONENT; exponent++) {
+            BigInteger mantissa;
+
+            if(exponent >= 0) {
+                BigInteger power = ten.pow(exponent);
+                int shift = power.bitLength() - 128;
+                mantissa = shift > 0 ? power.shiftRight(shift) : power.shiftLeft(-shift);
+            } else {
+                BigInteger power = ten.pow(-exponent);
+                mantissa = BigInteger.ONE.shiftLeft(power.bitLength() + 127).divide(power);
+            }
+
+            POWERS_HIGH[exponent - MIN_TABLE_EXPONENT] = mantissa.shiftRight(64).longValue();
+            POWERS_LOW[exponent - MIN_TABLE_EXPONENT] = mantissa.longValue();
+        }
+    }
+
+    private ByteBuffer buffer;
+
+    private int position;
+
+    private int limit;
+
+    private int line;
+
+    /**
+     * Tokens are read between the current position and the limit of the buffer, the buffer itself is not moved
+     */
+    public DoubleTokenizer(ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.position = buffer.position();
+        this.limit = buffer.limit();
+    }
+
+    /**
+     * Moves to the first token of the next non empty line.
+     * @return false if there are no more tokens
+     */
+    public boolean nextLine() {
+        while(position < limit && isWhitespace(buffer.get(position)) == true) {
+            if(buffer.get(position) == '\n') {
+                line++;
+            }
+
+            position++;
+        }
+
+        return position < limit;
+    }
+
+    /**
+     * @return true if there is another token before the end of the current line
+     */
+    public boolean hasNextOnLine() {
+        while(position < limit) {
+            byte b = buffer.get(position);
+
+            if(b == '\n' || isWhitespace(b) == false) {
+                break;
+            }
+
+            position++;
+        }
+
+        return position < limit && buffer.get(position) != '\n';
+    }
+
+    public double nextDouble() {
+        if(hasNextOnLine() == false) {
+            throw new IllegalStateException("No more tokens on line " + (line + 1));
+        }
+
+        int start = position;
+        boolean negative = false;
+
+        byte b = buffer.get(position);
+        if(b == '-' || b == '+') {
+            negative = b == '-';
+            position++;
+        }
+
+        long mantissa = 0;
+        int digits = 0;
+        int exponent = 0;
+        boolean anyDigits = false;
+        boolean exact = true;
+
+        // integer part, then fraction, each fraction digit lowers the exponent
+        boolean fraction = false;
+        while(position < limit) {
+            b = buffer.get(position);
+
+            if(b >= '0' && b <= '9') {
+                anyDigits = true;
+
+                if(digits < MAX_DIGITS) {
+                    mantissa = mantissa * 10 + (b - '0');
+                    if(mantissa != 0) {
+                        digits++;
+                    }
+
+                    if(fraction == true) {
+                        exponent--;
+                    }
+                } else {
+                    exact = false;
+                }
+            } else if(b == '.' && fraction == false) {
+                fraction = true;
+            } else {
+                break;
+            }
+
+            position++;
+        }
+
+        if(position < limit && anyDigits == true && (b == 'e' || b == 'E')) {
+            position++;
+
+            boolean negativeExponent = false;
+            if(position < limit && (buffer.get(position) == '-' || buffer.get(position) == '+')) {
+                negativeExponent = buffer.get(position) == '-';
+                position++;
+            }
+
+            int exponentStart = position;
+            int explicitExponent = 0;
+            while(position < limit && buffer.get(position) >= '0' && buffer.get(position) <= '9') {
+                explicitExponent = Math.min(explicitExponent * 10 + (buffer.get(position) - '0'), 100000);
+                position++;
+            }
+
+            if(position == exponentStart) {
+                anyDigits = false;
+            }
+
+            exponent += negativeExponent == true ? -explicitExponent : explicitExponent;
+        }
+
+        if(anyDigits == false || (position < limit && isWhitespace(buffer.get(position)) == false)) {
+            return parseToken(start);
+        }
+
+        if(mantissa == 0) {
+            return negative == true ? -0d : 0d;
+        }
+
+        if(exact == false) {
+            return parseToken(start);
+        }
+
+        double value;
+        // 19 digits can exceed Long.MAX_VALUE, so the mantissa is compared as unsigned
+        if(Long.compareUnsigned(mantissa, MAX_EXACT_MANTISSA) <= 0 && exponent >= -22 && exponent <= 22) {
+            value = exponent < 0 ? mantissa / POWERS_OF_TEN[-exponent] : mantissa * POWERS_OF_TEN[exponent];
+        } else {
+            long bits = eiselLemire(mantissa, exponent);
+            if(bits < 0) {
+                return parseToken(start);
+            }
+
+            value = Double.longBitsToDouble(bits);
+        }
+
+        return negative == true ? -value : value;
+    }
+
+    /**
+     * @return number of the current line, starting with 0
+     */
+    public int getLine() {
+        return line;
+    }
+
+    private double parseToken(int start) {
+        position = start;
+        while(position < limit && isWhitespace(buffer.get(position)) == false) {
+            position++;
+        }
+
+        char[] token = new char[position - start];
+        for(int i = 0; i < token.length; i++) {
+            token[i] = (char) (buffer.get(start + i) & 0xFF);
+        }
+
+        String text = new String(token);
+        try {
+            return Double.parseDouble(text);
+        } catch(NumberFormatException exc) {
+            throw new IllegalArgumentException(text + " cannot be parsed as a Double");
+        }
+    }
+
+    /**
+     * Bits of the double nearest to mantissa * 10^exponent, mantissa is unsigned and not 0.
+     * @return -1 if the result cannot be decided from the 128-bit product, or is subnormal or infinite
+     */
+    private static long eiselLemire(long mantissa, int exponent) {
+        if(exponent < MIN_TABLE_EXPONENT || exponent > MAX_TABLE_EXPONENT) {
+            return -1;
+        }
+
+        int index = exponent - MIN_TABLE_EXPONENT;
+        int leadingZeros = Long.numberOfLeadingZeros(mantissa);
+        long normalized = mantissa << leadingZeros;
+
+        // floor(log2(10) * exponent) + 64 + exponent bias
+        long binaryExponent = ((217706 * exponent) >> 16) + 64 + 1023 - leadingZeros;
+
+        long high = multiplyHigh(normalized, POWERS_HIGH[index]);
+        long low = normalized * POWERS_HIGH[index];
+
+        // the truncated part of the power of ten could still carry into the bits that are kept
+        if((high & 0x1FF) == 0x1FF && Long.compareUnsigned(low + normalized, normalized) < 0) {
+            long secondHigh = multiplyHigh(normalized, POWERS_LOW[index]);
+            long secondLow = normalized * POWERS_LOW[index];
+
+            long mergedHigh = high;
+            long mergedLow = low + secondHigh;
+            if(Long.compareUnsigned(mergedLow, low) < 0) {
+                mergedHigh++;
+            }
+
+            if((mergedHigh & 0x1FF) == 0x1FF && mergedLow == -1 && Long.compareUnsigned(secondLow + normalized, normalized) < 0) {
+                return -1;
+            }
+
+            high = mergedHigh;
+            low = mergedLow;
+        }
+
+        // keep 54 bits, the last one decides rounding
+        long upperBit = high >>> 63;
+        long result = high >>> (upperBit + 9);
+        binaryExponent -= 1 ^ upperBit;
+
+        // exactly halfway between two doubles, the tie needs the exact value
+        if(low == 0 && (high & 0x1FF) == 0 && (result & 3) == 1) {
+            return -1;
+        }
+
+        result += result & 1;
+        result >>>= 1;
+        if((result >>> 53) > 0) {
+            result >>>= 1;
+            binaryExponent++;
+        }
+
+        if(binaryExponent <= 0 || binaryExponent >= 0x7FF) {
+            return -1;
+        }
+
+        return binaryExponent << 52 | (result & 0x000FFFFFFFFFFFFFL);
+    }
+
+    /**
+     * High 64 bits of the unsigned 128-bit product a * b
+     */
+    private static long multiplyHigh(long a, long b) {
+        long aLow = a & LOW_32_BITS, aHigh = a >>> 32;
+        long bLow = b & LOW_32_BITS, bHigh = b >>> 32;
+
+        long lowLow = aLow * bLow;
+        long highLow = aHigh * bLow;
+        long lowHigh = aLow * bHigh;
+
+        long cross = (lowLow >>> 32) + (highLow & LOW_32_BITS) + lowHigh;
+
+        return aHigh * bHigh + (highLow >>> 32) + (cross >>> 32);
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\t' || b == '\r' || b == '\n';
+    }
+}
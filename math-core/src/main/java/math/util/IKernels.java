@@ -0,0 +1,41 @@
+package math.util;
+
+/**
+ * Element-wise and reduction loops over ranges of double arrays, implemented once with plain loops and once with
+ * the JDK Vector API. See {@link Kernels} for the selected implementation.
+ */
+interface IKernels {
+
+    /**
+     * @return sum of a[aOffset + i] * b[bOffset + i]
+     */
+    double dot(double[] a, int aOffset, double[] b, int bOffset, int length);
+
+    /**
+     * @return sum of a[offset + i]^2
+     */
+    double sumOfSquares(double[] a, int offset, int length);
+
+    /**
+     * y[yOffset + i] += alpha * x[xOffset + i]
+     */
+    void axpy(double alpha, double[] x, int xOffset, double[] y, int yOffset, int length);
+
+    /**
+     * c[cOffset + i] = a[aOffset + i] + multiplier * b[bOffset + i], c may be the same range as a or b
+     */
+    void addScaled(double[] a, int aOffset, double[] b, int bOffset, double multiplier, double[] c, int cOffset, int length);
+
+    /**
+     * a[offset + i] *= multiplier
+     */
+    void scale(double[] a, int offset, int length, double multiplier);
+
+    /**
+     * GEMM micro-kernel, adds a[row][k] * b[k][0:length] to the four rows c[row] for row = 0..3. Row r of a starts at
+     * aIndex + r * aStride, row r of c at cIndex + r * cStride, the row of b at bIndex. Every loaded element of b is
+     * used four times.
+     */
+    void multiplyAdd4(double[] a, int aIndex, int aStride, double[] b, int bIndex,
+                      double[] c, int cIndex, int cStride, int length);
+}
@@ -0,0 +1,85 @@
+package math.util;
+
+/**
+ * Hot loops of the vector and matrix classes over ranges of double arrays. The implementation is picked once when the
+ * class loads: the Vector API kernels if they were compiled (JDK 17+ build, vector-api profile) and the running JVM
+ * resolves jdk.incubator.vector, plain loops otherwise. So the same code runs on Java 8 and uses SIMD where it can.
+ *
+ * Setting the system property math.kernels.scalar to true forces the plain loops, e.g. to compare both.
+ */
+public class Kernels {
+
+    private static final String VECTOR_KERNELS = "math.util.VectorKernels";
+
+    private static final IKernels KERNELS = load();
+
+    private Kernels() {
+    }
+
+    private static IKernels load() {
+        if(Boolean.getBoolean("math.kernels.scalar") == false) {
+            try {
+                return (IKernels) Class.forName(VECTOR_KERNELS).getDeclaredConstructor().newInstance();
+            } catch(ReflectiveOperationException | LinkageError e) {
+                // not compiled, older class file version or the incubator module is not resolved
+            }
+        }
+
+        return new ScalarKernels();
+    }
+
+    /**
+     * @return true if the Vector API kernels are in use
+     */
+    public static boolean isVectorised() {
+        return (KERNELS instanceof ScalarKernels) == false;
+    }
+
+    public static double dot(double[] a, int aOffset, double[] b, int bOffset, int length) {
+        return KERNELS.dot(a, aOffset, b, bOffset, length);
+    }
+
+    public static double dot(double[] a, double[] b) {
+        if(a.length != b.length) {
+            throw new IllegalArgumentException("Arrays must be of same lengths");
+        }
+
+        return KERNELS.dot(a, 0, b, 0, a.length);
+    }
+
+    public static double sumOfSquares(double[] a, int offset, int length) {
+        return KERNELS.sumOfSquares(a, offset, length);
+    }
+
+    public static double norm(double[] a) {
+        return Math.sqrt(KERNELS.sumOfSquares(a, 0, a.length));
+    }
+
+    /**
+     * y += alpha * x over the given ranges
+     */
+    public static void axpy(double alpha, double[] x, int xOffset, double[] y, int yOffset, int length) {
+        KERNELS.axpy(alpha, x, xOffset, y, yOffset, length);
+    }
+
+    /**
+     * c = a + multiplier * b over the given ranges, c may be the same range as a or b
+     */
+    public static void addScaled(double[] a, int aOffset, double[] b, int bOffset, double multiplier,
+                                 double[] c, int cOffset, int length) {
+        KERNELS.addScaled(a, aOffset, b, bOffset, multiplier, c, cOffset, length);
+    }
+
+    public static void scale(double[] a, int offset, int length, double multiplier) {
+        KERNELS.scale(a, offset, length, multiplier);
+    }
+
+    /**
+     * Adds a[row][0] * b[0:length] to c[row][0:length] for four consecutive rows, see {@link math.matrix.MatrixMultiplication}
+     * for the use as the inner kernel of a matrix product
+     */
+    public static void multiplyAdd4(double[] a, int aIndex, int aStride, double[] b, int bIndex,
+                                    double[] c, int cIndex, int cStride, int length) {
+        KERNELS.multiplyAdd4(a, aIndex, aStride, b, bIndex, c, cIndex, cStride, length);
+    }
+}
@@ -0,0 +1,69 @@
+package math.util;
+
+/**
+ * Plain loop kernels, reductions keep four partial sums so the additions do not wait on each other.
+ */
+class ScalarKernels implements IKernels {
+
+    @Override
+    public double dot(double[] a, int aOffset, double[] b, int bOffset, int length) {
+        double sum0 = 0, sum1 = 0, sum2 = 0, sum3 = 0;
+
+        int i = 0;
+        for(; i <= length - 4; i += 4) {
+            sum0 += a[aOffset + i] * b[bOffset + i];
+            sum1 += a[aOffset + i + 1] * b[bOffset + i + 1];
+            sum2 += a[aOffset + i + 2] * b[bOffset + i + 2];
+            sum3 += a[aOffset + i + 3] * b[bOffset + i + 3];
+        }
+
+        for(; i < length; i++) {
+            sum0 += a[aOffset + i] * b[bOffset + i];
+        }
+
+        return (sum0 + sum1) + (sum2 + sum3);
+    }
+
+    @Override
+    public double sumOfSquares(double[] a, int offset, int length) {
+        return dot(a, offset, a, offset, length);
+    }
+
+    @Override
+    public void axpy(double alpha, double[] x, int xOffset, double[] y, int yOffset, int length) {
+        for(int i = 0; i < length; i++) {
+            y[yOffset + i] += alpha * x[xOffset + i];
+        }
+    }
+
+    @Override
+    public void addScaled(double[] a, int aOffset, double[] b, int bOffset, double multiplier, double[] c, int cOffset, int length) {
+        for(int i = 0; i < length; i++) {
+            c[cOffset + i] = a[aOffset + i] + multiplier * b[bOffset + i];
+        }
+    }
+
+    @Override
+    public void scale(double[] a, int offset, int length, double multiplier) {
+        for(int i = 0; i < length; i++) {
+            a[offset + i] *= multiplier;
+        }
+    }
+
+    /**
+     * Four separate row updates, the JIT vectorizes a loop with one store stream but not one storing into four
+     * rows of the same array which might overlap
+     */
+    @Override
+    public void multiplyAdd4(double[] a, int aIndex, int aStride, double[] b, int bIndex,
+                             double[] c, int cIndex, int cStride, int length) {
+        for(int row = 0; row < 4; row++) {
+            double aValue = a[aIndex + row * aStride];
+            int index = cIndex + row * cStride;
+
+            for(int i = 0; i < length; i++) {
+                c[index + i] += aValue * b[bIndex + i];
+            }
+        }
+    }
+}
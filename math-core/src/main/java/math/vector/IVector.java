@@ -0,0 +1,134 @@
+package math.vector;
+
+import math.matrix.IMatrix;
+
+public interface IVector {
+
+    double get(int index);
+
+    IVector set(int index, double value);
+
+    int getDimension();
+
+    IVector copy();
+
+    IVector copyPart(int vectorSize);
+
+    IVector newInstance(int vectorSize);
+
+    IVector add(IVector operand);
+
+    IVector nAdd(IVector operand);
+
+    IVector sub(IVector subtrahend);
+
+    IVector nSub(IVector subtrahend);
+
+    IVector scalarMultiply(double multiplier);
+
+    IVector nScalarMultiply(double multiplier);
+
+    double norm();
+
+    IVector normalize();
+
+    IVector nNormalize();
+
+    double cosine(IVector other);
+
+    double scalarProduct(IVector multiplier);
+
+    IVector nVectorProduct(IVector multiplier);
+
+    IVector nFromHomogeneous();
+
+    IMatrix toRowMatrix(boolean liveView);
+
+    IMatrix toColumnMatrix(boolean liveView);
+
+    double[] toArray();
+
+    boolean lesserThan(double value);
+
+    boolean greaterThan(double value);
+
+    IVector negative();
+
+    IVector absolute();
+
+    /**
+     * out = this + operand, out may be this or operand
+     */
+    default IVector addInto(IVector operand, IVector out) {
+        return addScaledInto(operand, 1, out);
+    }
+
+    /**
+     * out = this - subtrahend, out may be this or subtrahend
+     */
+    default IVector subInto(IVector subtrahend, IVector out) {
+        return addScaledInto(subtrahend, -1, out);
+    }
+
+    /**
+     * out = this + multiplier * operand, out may be this or operand
+     */
+    default IVector addScaledInto(IVector operand, double multiplier, IVector out) {
+        if(this.getDimension() != operand.getDimension() || this.getDimension() != out.getDimension()) {
+            throw new IllegalArgumentException("Vectors must be of same sizes");
+        }
+
+        for(int i = this.getDimension() - 1; i >= 0; i--) {
+            out.set(i, this.get(i) + multiplier * operand.get(i));
+        }
+
+        return out;
+    }
+
+    /**
+     * out = multiplier * this, out may be this
+     */
+    default IVector scalarMultiplyInto(double multiplier, IVector out) {
+        if(this.getDimension() != out.getDimension()) {
+            throw new IllegalArgumentException("Vectors must be of same sizes");
+        }
+
+        for(int i = this.getDimension() - 1; i >= 0; i--) {
+            out.set(i, this.get(i) * multiplier);
+        }
+
+        return out;
+    }
+
+    /**
+     * Writes the normalized vector into out, out may be this
+     */
+    default IVector normalizeInto(IVector out) {
+        double norm = norm();
+
+        if(norm == 0) {
+            return scalarMultiplyInto(1, out);
+        }
+
+        return scalarMultiplyInto(1 / norm, out);
+    }
+
+    /**
+     * out = this x multiplier, out may be this or multiplier
+     */
+    default IVector crossInto(IVector multiplier, IVector out) {
+        if(this.getDimension() != 3 || multiplier.getDimension() != 3 || out.getDimension() != 3) {
+            throw new IllegalArgumentException("Vectors must be of size 3");
+        }
+
+        double x = this.get(1) * multiplier.get(2) - this.get(2) * multiplier.get(1);
+        double y = this.get(2) * multiplier.get(0) - this.get(0) * multiplier.get(2);
+        double z = this.get(0) * multiplier.get(1) - this.get(1) * multiplier.get(0);
+
+        out.set(0, x);
+        out.set(1, y);
+        out.set(2, z);
+
+        return out;
+    }
+}
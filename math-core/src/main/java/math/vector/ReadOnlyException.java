@@ -1,7 +1,7 @@
-package math.vector;
-
-public class ReadOnlyException extends RuntimeException {
-    public ReadOnlyException() {
-        super("This vector is read only");
-    }
-}
+package math.vector;
+
+public class ReadOnlyException extends RuntimeException {
+    public ReadOnlyException() {
+        super("This vector is read only");
+    }
+}
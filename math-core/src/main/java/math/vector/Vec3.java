@@ -0,0 +1,195 @@
+package math.vector;
+
+/**
+ * Mutable 3D vector stored in fields. Methods taking a Vec3 work directly on the fields without allocating,
+ * methods with an out parameter write the result into it, so the same objects can be reused every frame.
+ * Being an IVector it can be passed anywhere a general vector is expected.
+ */
+public class Vec3 extends AbstractVector {
+
+    public double x;
+
+    public double y;
+
+    public double z;
+
+    public Vec3() {
+    }
+
+    public Vec3(double x, double y, double z) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+    }
+
+    /**
+     * Copies the first three elements of the given vector.
+     */
+    public Vec3(IVector vector) {
+        set(vector);
+    }
+
+    public Vec3 set(double x, double y, double z) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+
+        return this;
+    }
+
+    public Vec3 set(Vec3 other) {
+        this.x = other.x;
+        this.y = other.y;
+        this.z = other.z;
+
+        return this;
+    }
+
+    public Vec3 set(IVector vector) {
+        if(vector.getDimension() < 3) {
+            throw new IllegalArgumentException("Vector must have at least 3 elements");
+        }
+
+        this.x = vector.get(0);
+        this.y = vector.get(1);
+        this.z = vector.get(2);
+
+        return this;
+    }
+
+    @Override
+    public double get(int index) {
+        switch(index) {
+            case 0:
+                return x;
+            case 1:
+                return y;
+            case 2:
+                return z;
+            default:
+                throw new IllegalArgumentException("Index must be in range of [0, sizeOfVector]");
+        }
+    }
+
+    @Override
+    public IVector set(int index, double value) {
+        switch(index) {
+            case 0:
+                x = value;
+                break;
+            case 1:
+                y = value;
+                break;
+            case 2:
+                z = value;
+                break;
+            default:
+                throw new IllegalArgumentException("Index must be in range of [0, sizeOfVector]");
+        }
+
+        return this;
+    }
+
+    @Override
+    public int getDimension() {
+        return 3;
+    }
+
+    @Override
+    public IVector copy() {
+        return new Vec3(x, y, z);
+    }
+
+    @Override
+    public IVector newInstance(int vectorSize) {
+        if(vectorSize == 3) {
+            return new Vec3();
+        }
+
+        return new Vector(vectorSize, false);
+    }
+
+    public Vec3 add(Vec3 other) {
+        x += other.x;
+        y += other.y;
+        z += other.z;
+
+        return this;
+    }
+
+    public Vec3 sub(Vec3 other) {
+        x -= other.x;
+        y -= other.y;
+        z -= other.z;
+
+        return this;
+    }
+
+    @Override
+    public Vec3 scalarMultiply(double multiplier) {
+        x *= multiplier;
+        y *= multiplier;
+        z *= multiplier;
+
+        return this;
+    }
+
+    /**
+     * this = this + multiplier * other
+     */
+    public Vec3 addScaled(Vec3 other, double multiplier) {
+        x += multiplier * other.x;
+        y += multiplier * other.y;
+        z += multiplier * other.z;
+
+        return this;
+    }
+
+    public double dot(Vec3 other) {
+        return x * other.x + y * other.y + z * other.z;
+    }
+
+    @Override
+    public double norm() {
+        return Math.sqrt(x * x + y * y + z * z);
+    }
+
+    @Override
+    public Vec3 normalize() {
+        double norm = norm();
+
+        if(norm != 0) {
+            x /= norm;
+            y /= norm;
+            z /= norm;
+        }
+
+        return this;
+    }
+
+    public static Vec3 add(Vec3 a, Vec3 b, Vec3 out) {
+        return out.set(a.x + b.x, a.y + b.y, a.z + b.z);
+    }
+
+    public static Vec3 sub(Vec3 a, Vec3 b, Vec3 out) {
+        return out.set(a.x - b.x, a.y - b.y, a.z - b.z);
+    }
+
+    public static Vec3 scale(Vec3 a, double multiplier, Vec3 out) {
+        return out.set(a.x * multiplier, a.y * multiplier, a.z * multiplier);
+    }
+
+    /**
+     * out = a x b, out may be the same object as a or b
+     */
+    public static Vec3 cross(Vec3 a, Vec3 b, Vec3 out) {
+        return out.set(
+                a.y * b.z - a.z * b.y,
+                a.z * b.x - a.x * b.z,
+                a.x * b.y - a.y * b.x);
+    }
+
+    public IVector toVector() {
+        return new Vector(new double[] {x, y, z});
+    }
+}
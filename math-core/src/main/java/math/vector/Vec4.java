@@ -0,0 +1,139 @@
+package math.vector;
+
+/**
+ * Mutable homogeneous 4D vector stored in fields, see {@link Vec3}.
+ */
+public class Vec4 extends AbstractVector {
+
+    public double x;
+
+    public double y;
+
+    public double z;
+
+    public double w;
+
+    public Vec4() {
+    }
+
+    public Vec4(double x, double y, double z, double w) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.w = w;
+    }
+
+    /**
+     * Point in homogeneous coordinates, w = 1
+     */
+    public Vec4(Vec3 point) {
+        this(point.x, point.y, point.z, 1);
+    }
+
+    public Vec4 set(double x, double y, double z, double w) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.w = w;
+
+        return this;
+    }
+
+    public Vec4 set(Vec4 other) {
+        return set(other.x, other.y, other.z, other.w);
+    }
+
+    @Override
+    public double get(int index) {
+        switch(index) {
+            case 0:
+                return x;
+            case 1:
+                return y;
+            case 2:
+                return z;
+            case 3:
+                return w;
+            default:
+                throw new IllegalArgumentException("Index must be in range of [0, sizeOfVector]");
+        }
+    }
+
+    @Override
+    public IVector set(int index, double value) {
+        switch(index) {
+            case 0:
+                x = value;
+                break;
+            case 1:
+                y = value;
+                break;
+            case 2:
+                z = value;
+                break;
+            case 3:
+                w = value;
+                break;
+            default:
+                throw new IllegalArgumentException("Index must be in range of [0, sizeOfVector]");
+        }
+
+        return this;
+    }
+
+    @Override
+    public int getDimension() {
+        return 4;
+    }
+
+    @Override
+    public IVector copy() {
+        return new Vec4(x, y, z, w);
+    }
+
+    @Override
+    public IVector newInstance(int vectorSize) {
+        if(vectorSize == 4) {
+            return new Vec4();
+        }
+
+        if(vectorSize == 3) {
+            return new Vec3();
+        }
+
+        return new Vector(vectorSize, false);
+    }
+
+    public Vec4 add(Vec4 other) {
+        return set(x + other.x, y + other.y, z + other.z, w + other.w);
+    }
+
+    public Vec4 sub(Vec4 other) {
+        return set(x - other.x, y - other.y, z - other.z, w - other.w);
+    }
+
+    @Override
+    public Vec4 scalarMultiply(double multiplier) {
+        return set(x * multiplier, y * multiplier, z * multiplier, w * multiplier);
+    }
+
+    public double dot(Vec4 other) {
+        return x * other.x + y * other.y + z * other.z + w * other.w;
+    }
+
+    @Override
+    public double norm() {
+        return Math.sqrt(x * x + y * y + z * z + w * w);
+    }
+
+    /**
+     * Divides x, y and z by w and writes them into out
+     */
+    public Vec3 fromHomogeneous(Vec3 out) {
+        return out.set(x / w, y / w, z / w);
+    }
+
+    public IVector toVector() {
+        return new Vector(new double[] {x, y, z, w});
+    }
+}
@@ -0,0 +1,84 @@
+package math.integration;
+
+import math.matrix.DenseMatrix;
+import math.vector.IVector;
+import math.vector.Vector;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class BatchRungeKuttaIntegratorTest {
+
+    private static final double STEP = 0.01;
+
+    private static final double DELTA = 1e-12;
+
+    @Test
+    public void propagatorGivesTheSameStatesAsStepping() {
+        LinearSystem system = new LinearSystem(randomMatrix(5, 5, 1));
+        DenseMatrix x0 = randomMatrix(5, 100, 2);
+
+        DenseMatrix stepped = new BatchRungeKuttaIntegrator(STEP).setPropagating(false).setColumnsPerTask(16)
+                .integrate(system, x0, 0, 1);
+        DenseMatrix propagated = new BatchRungeKuttaIntegrator(STEP).setColumnsPerTask(16)
+                .integrate(system, x0, 0, 1);
+
+        assertMatrixEquals(stepped, propagated);
+    }
+
+    @Test
+    public void oddNumberOfPropagatorStepsEndsInTheResult() {
+        LinearSystem system = new LinearSystem(randomMatrix(3, 3, 3));
+        DenseMatrix x0 = randomMatrix(3, 4, 4);
+
+        DenseMatrix stepped = new BatchRungeKuttaIntegrator(STEP).setPropagating(false).integrate(system, x0, 0, 0.51);
+        DenseMatrix propagated = new BatchRungeKuttaIntegrator(STEP).integrate(system, x0, 0, 0.51);
+
+        assertMatrixEquals(stepped, propagated);
+    }
+
+    @Test
+    public void columnsMatchSerialIntegration() throws IOException {
+        LinearSystem system = new LinearSystem(randomMatrix(4, 4, 5));
+        DenseMatrix x0 = randomMatrix(4, 3, 6);
+
+        DenseMatrix batch = new BatchRungeKuttaIntegrator(STEP).integrate(system, x0, 0, 1);
+        RungeKuttaIntegrator serial = new RungeKuttaIntegrator(STEP).setPropagating(false);
+
+        for(int col = 0; col < x0.getColsCount(); col++) {
+            IVector start = new Vector(4, false);
+            for(int row = 0; row < 4; row++) {
+                start.set(row, x0.get(row, col));
+            }
+
+            IVector end = serial.integrate(system, start, 0, 1, (t, state) -> { });
+            for(int row = 0; row < 4; row++) {
+                assertEquals(end.get(row), batch.get(row, col), DELTA);
+            }
+        }
+    }
+
+    private static DenseMatrix randomMatrix(int rows, int cols, long seed) {
+        Random random = new Random(seed);
+        DenseMatrix matrix = new DenseMatrix(rows, cols);
+
+        for(int row = 0; row < rows; row++) {
+            for(int col = 0; col < cols; col++) {
+                matrix.set(row, col, random.nextDouble() - 0.5);
+            }
+        }
+
+        return matrix;
+    }
+
+    private static void assertMatrixEquals(DenseMatrix expected, DenseMatrix actual) {
+        for(int row = 0; row < expected.getRowsCount(); row++) {
+            for(int col = 0; col < expected.getColsCount(); col++) {
+                assertEquals("element " + row + ", " + col, expected.get(row, col), actual.get(row, col), DELTA);
+            }
+        }
+    }
+}
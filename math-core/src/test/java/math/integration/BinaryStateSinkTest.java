@@ -0,0 +1,72 @@
+package math.integration;
+
+import math.matrix.DenseMatrix;
+import math.matrix.MatrixIO;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+public class BinaryStateSinkTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void statesAreReadBackAsMatrix() throws IOException {
+        Path path = folder.newFile().toPath();
+
+        // the smallest buffer, flushed every two doubles
+        try(BinaryStateSink sink = new BinaryStateSink(FileChannel.open(path, StandardOpenOption.WRITE),
+                MatrixIO.HEADER_SIZE)) {
+            for(int i = 0; i < 5; i++) {
+                sink.accept(0.5 * i, new double[]{i, -i, i * i});
+            }
+        }
+
+        DenseMatrix matrix = MatrixIO.readBinary(path);
+
+        assertEquals(5, matrix.getRowsCount());
+        assertEquals(4, matrix.getColsCount());
+        for(int i = 0; i < 5; i++) {
+            assertEquals(0.5 * i, matrix.get(i, 0), 0);
+            assertEquals(i, matrix.get(i, 1), 0);
+            assertEquals(-i, matrix.get(i, 2), 0);
+            assertEquals(i * i, matrix.get(i, 3), 0);
+        }
+    }
+
+    @Test
+    public void manyStatesAreReadBack() throws IOException {
+        Path path = folder.getRoot().toPath().resolve("states.bin");
+
+        try(BinaryStateSink sink = new BinaryStateSink(path, false)) {
+            for(int i = 0; i < 1000; i++) {
+                sink.accept(i, new double[]{Math.sin(i), Math.cos(i)});
+            }
+        }
+
+        DenseMatrix matrix = MatrixIO.readBinary(path);
+
+        assertEquals(1000, matrix.getRowsCount());
+        assertEquals(3, matrix.getColsCount());
+        assertEquals(Math.sin(999), matrix.get(999, 1), 0);
+        assertEquals(Math.cos(999), matrix.get(999, 2), 0);
+    }
+
+    @Test
+    public void statesOfDifferentDimensionsAreRejected() throws IOException {
+        try(BinaryStateSink sink = new BinaryStateSink(folder.getRoot().toPath().resolve("mixed.bin"), false)) {
+            sink.accept(0, new double[2]);
+
+            assertThrows(IllegalArgumentException.class, () -> sink.accept(1, new double[3]));
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package math.integration;
+
+import math.matrix.DenseMatrix;
+import math.vector.IVector;
+import math.vector.Vector;
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static org.junit.Assert.assertTrue;
+
+public class RungeKuttaIntegratorTest {
+
+    @Test
+    public void stableStepOfComplexPair() throws IOException {
+        double re = -1.636;
+        double im = 2.2476;
+        DenseMatrix a = complexPair(re, im);
+
+        double step = RungeKuttaIntegrator.stableStep(a, 1);
+
+        assertTrue(amplification(step * re, step * im) <= 1);
+
+        // the norm of the numerical solution does not grow
+        IVector x0 = new Vector(new double[]{1, 0});
+        IVector x = new RungeKuttaIntegrator(step).setPropagating(false)
+                .integrate(new LinearSystem(a), x0, 0, 200 * step, (t, state) -> { });
+        assertTrue(x.norm() <= 1);
+    }
+
+    @Test
+    public void stableStepForEveryDirectionOfTheLeftHalfPlane() {
+        for(int degrees = 90; degrees <= 180; degrees++) {
+            double angle = Math.toRadians(degrees);
+            double re = 3 * Math.cos(angle);
+            double im = 3 * Math.sin(angle);
+
+            double step = RungeKuttaIntegrator.stableStep(complexPair(re, im), 1);
+
+            assertTrue("eigenvalue at " + degrees + " degrees", amplification(step * re, step * im) <= 1 + 1e-9);
+        }
+    }
+
+    /**
+     * Real 2x2 matrix with the eigenvalues re +- i * im
+     */
+    private static DenseMatrix complexPair(double re, double im) {
+        return new DenseMatrix(new double[][]{{re, im}, {-im, re}});
+    }
+
+    /**
+     * |R(z)| of the stability function R(z) = 1 + z + z^2 / 2 + z^3 / 6 + z^4 / 24 of the method
+     */
+    private static double amplification(double re, double im) {
+        double sumRe = 1, sumIm = 0;
+        double powerRe = 1, powerIm = 0;
+        double factorial = 1;
+
+        for(int k = 1; k <= 4; k++) {
+            double nextRe = powerRe * re - powerIm * im;
+            powerIm = powerRe * im + powerIm * re;
+            powerRe = nextRe;
+            factorial *= k;
+
+            sumRe += powerRe / factorial;
+            sumIm += powerIm / factorial;
+        }
+
+        return Math.hypot(sumRe, sumIm);
+    }
+}
@@ -0,0 +1,62 @@
+package math.matrix;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+
+public class CholeskyDecompositionTest {
+
+    private static final double DELTA = 1e-12;
+
+    @Test
+    public void symmetricPositiveDefiniteMatrixIsDetected() {
+        DenseMatrix matrix = new DenseMatrix(new double[][]{{4, 1, 0}, {1, 3, 1}, {0, 1, 2}});
+
+        assertNotNull(matrix.positiveDefiniteDecomposition());
+        assertEquals(18, matrix.determinant(), DELTA);
+
+        IMatrix product = matrix.nMultiply(matrix.nInvert());
+        for(int row = 0; row < 3; row++) {
+            for(int col = 0; col < 3; col++) {
+                assertEquals(row == col ? 1 : 0, product.get(row, col), DELTA);
+            }
+        }
+    }
+
+    @Test
+    public void indefiniteAndNonSymmetricMatricesFallBackToLU() {
+        DenseMatrix indefinite = new DenseMatrix(new double[][]{{1, 2}, {2, 1}});
+        DenseMatrix nonSymmetric = new DenseMatrix(new double[][]{{2, 1}, {0, 2}});
+
+        assertNull(indefinite.positiveDefiniteDecomposition());
+        assertEquals(-3, indefinite.determinant(), DELTA);
+
+        assertNull(nonSymmetric.positiveDefiniteDecomposition());
+        assertEquals(4, nonSymmetric.determinant(), DELTA);
+    }
+
+    @Test
+    public void nearlySingularMatrixIsNotInverted() {
+        for(boolean marked : new boolean[]{false, true}) {
+            DenseMatrix matrix = new DenseMatrix(new double[][]{{1, 1}, {1, 1 + 1e-12}});
+            matrix.setSymmetricPositiveDefinite(marked);
+
+            assertFalse(new CholeskyDecomposition(matrix).isPositiveDefinite());
+            assertThrows(IllegalArgumentException.class, matrix::nInvert);
+        }
+    }
+
+    @Test
+    public void pivotBoundAgreesWithLU() {
+        DenseMatrix symmetric = new DenseMatrix(new double[][]{{1e-7, 0}, {0, 1e-7}});
+        DenseMatrix nonSymmetric = new DenseMatrix(new double[][]{{1e-7, 1e-20}, {0, 1e-7}});
+
+        assertFalse(new CholeskyDecomposition(symmetric).isPositiveDefinite());
+        assertThrows(IllegalArgumentException.class, symmetric::nInvert);
+        assertThrows(IllegalArgumentException.class, nonSymmetric::nInvert);
+    }
+}
@@ -0,0 +1,172 @@
+package math.matrix;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+public class MatrixIOTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void textRoundTripKeepsEveryBit() throws IOException {
+        DenseMatrix matrix = randomMatrix(7, 5, 1);
+        matrix.set(0, 0, -0d);
+        matrix.set(0, 1, Double.MIN_VALUE);
+        matrix.set(0, 2, Double.MAX_VALUE);
+        matrix.set(0, 3, Double.NEGATIVE_INFINITY);
+        matrix.set(0, 4, Double.NaN);
+
+        Path path = folder.newFile("matrix.txt").toPath();
+        MatrixIO.writeText(matrix, path);
+
+        assertBitsEqual(matrix, MatrixIO.readText(path));
+    }
+
+    @Test
+    public void textWithCrlfAndBlankLines() {
+        byte[] text = "\r\n1 2.5\r\n\r\n\n-3e2\t4\r\n\n".getBytes();
+
+        DenseMatrix matrix = MatrixIO.readText(ByteBuffer.wrap(text));
+
+        assertEquals(2, matrix.getRowsCount());
+        assertEquals(2, matrix.getColsCount());
+        assertEquals(-300, matrix.get(1, 0), 0);
+        assertEquals(4, matrix.get(1, 1), 0);
+    }
+
+    @Test
+    public void textWithUnequalRowsIsRejected() {
+        byte[] text = "1 2\n3\n".getBytes();
+
+        IllegalArgumentException exc = assertThrows(IllegalArgumentException.class,
+                () -> MatrixIO.readText(ByteBuffer.wrap(text)));
+        assertTrue(exc.getMessage().contains("line 2"));
+    }
+
+    @Test
+    public void binaryRoundTripKeepsEveryBit() throws IOException {
+        DenseMatrix matrix = randomMatrix(33, 17, 2);
+        matrix.set(3, 3, -0d);
+        matrix.set(4, 4, Double.NaN);
+
+        Path path = folder.newFile("matrix.bin").toPath();
+        MatrixIO.writeBinary(matrix, path);
+
+        assertEquals(16 + 33 * 17 * Double.BYTES, Files.size(path));
+        assertBitsEqual(matrix, MatrixIO.readBinary(path));
+    }
+
+    @Test
+    public void binaryRoundTripOfStridedMatrix() throws IOException {
+        DenseMatrix matrix = randomMatrix(6, 6, 3);
+        DenseMatrix view = new DenseMatrix(3, 4, matrix.getElements(), 6 + 2, 6);
+
+        Path path = folder.newFile("view.bin").toPath();
+        MatrixIO.writeBinary(view, path);
+
+        assertBitsEqual(view, MatrixIO.readBinary(path));
+    }
+
+    @Test
+    public void binaryWithBadMagicIsRejected() throws IOException {
+        Path path = writeBinary(randomMatrix(2, 3, 4));
+        putInt(path, 0, 0x12345678);
+
+        IllegalArgumentException exc = assertThrows(IllegalArgumentException.class, () -> MatrixIO.readBinary(path));
+        assertEquals("File is not a binary matrix", exc.getMessage());
+    }
+
+    @Test
+    public void binaryWithBadVersionIsRejected() throws IOException {
+        Path path = writeBinary(randomMatrix(2, 3, 5));
+        putInt(path, 4, 2);
+
+        IllegalArgumentException exc = assertThrows(IllegalArgumentException.class, () -> MatrixIO.readBinary(path));
+        assertEquals("Unsupported binary matrix version 2", exc.getMessage());
+    }
+
+    @Test
+    public void binaryWithSizeMismatchIsRejected() throws IOException {
+        Path path = writeBinary(randomMatrix(2, 3, 6));
+        putInt(path, 8, 3);
+
+        IllegalArgumentException exc = assertThrows(IllegalArgumentException.class, () -> MatrixIO.readBinary(path));
+        assertEquals("File size does not match matrix dimensions 3x3", exc.getMessage());
+    }
+
+    @Test
+    public void truncatedBinaryIsRejected() throws IOException {
+        Path path = writeBinary(randomMatrix(2, 3, 7));
+        try(FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - Double.BYTES);
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> MatrixIO.readBinary(path));
+    }
+
+    @Test
+    public void binaryShorterThanHeaderIsRejected() throws IOException {
+        Path path = folder.newFile("short.bin").toPath();
+        Files.write(path, new byte[8]);
+
+        assertThrows(IllegalArgumentException.class, () -> MatrixIO.readBinary(path));
+    }
+
+    private Path writeBinary(IMatrix matrix) throws IOException {
+        Path path = folder.newFile().toPath();
+        MatrixIO.writeBinary(matrix, path);
+        return path;
+    }
+
+    /**
+     * Overwrites one little endian int of the header
+     */
+    private static void putInt(Path path, int position, int value) throws IOException {
+        try(FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.putInt(value);
+            buffer.flip();
+            channel.write(buffer, position);
+        }
+    }
+
+    private static DenseMatrix randomMatrix(int rows, int cols, long seed) {
+        Random random = new Random(seed);
+        DenseMatrix matrix = new DenseMatrix(rows, cols);
+
+        for(int row = 0; row < rows; row++) {
+            for(int col = 0; col < cols; col++) {
+                matrix.set(row, col, (random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(40) - 20));
+            }
+        }
+
+        return matrix;
+    }
+
+    private static void assertBitsEqual(IMatrix expected, IMatrix actual) {
+        assertEquals(expected.getRowsCount(), actual.getRowsCount());
+        assertEquals(expected.getColsCount(), actual.getColsCount());
+
+        for(int row = 0; row < expected.getRowsCount(); row++) {
+            for(int col = 0; col < expected.getColsCount(); col++) {
+                assertEquals("element " + row + ", " + col, Double.doubleToRawLongBits(expected.get(row, col)),
+                        Double.doubleToRawLongBits(actual.get(row, col)));
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package math.matrix;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class MatrixMultiplicationTest {
+
+    private static final double DELTA = 1e-12;
+
+    @Test
+    public void sparseProductIntoOverlappingBlockOfB() {
+        DenseMatrix storage = randomMatrix(6, 4, 1);
+        DenseMatrix b = storage.block(0, 0, 4, 4);
+        DenseMatrix out = storage.block(1, 0, 4, 4);
+        SparseMatrix a = SparseMatrix.copyOf(randomMatrix(4, 4, 2), 0);
+
+        IMatrix expected = product(a, DenseMatrix.copyOf(b));
+        MatrixMultiplication.multiplyInto(a, b, out);
+
+        assertMatrixEquals(expected, out);
+    }
+
+    @Test
+    public void denseProductIntoOverlappingBlockOfB() {
+        DenseMatrix storage = randomMatrix(6, 4, 3);
+        DenseMatrix b = storage.block(0, 0, 4, 4);
+        DenseMatrix out = storage.block(2, 0, 4, 4);
+        DenseMatrix a = randomMatrix(4, 4, 4);
+
+        IMatrix expected = product(a, DenseMatrix.copyOf(b));
+        MatrixMultiplication.multiplyInto(a, b, out);
+
+        assertMatrixEquals(expected, out);
+    }
+
+    /**
+     * Plain triple loop on copies of the operands
+     */
+    private static IMatrix product(IMatrix a, IMatrix b) {
+        DenseMatrix c = new DenseMatrix(a.getRowsCount(), b.getColsCount());
+
+        for(int row = 0; row < c.getRowsCount(); row++) {
+            for(int col = 0; col < c.getColsCount(); col++) {
+                double sum = 0;
+                for(int k = 0; k < a.getColsCount(); k++) {
+                    sum += a.get(row, k) * b.get(k, col);
+                }
+                c.set(row, col, sum);
+            }
+        }
+
+        return c;
+    }
+
+    private static DenseMatrix randomMatrix(int rows, int cols, long seed) {
+        Random random = new Random(seed);
+        DenseMatrix matrix = new DenseMatrix(rows, cols);
+
+        for(int row = 0; row < rows; row++) {
+            for(int col = 0; col < cols; col++) {
+                matrix.set(row, col, random.nextDouble() - 0.5);
+            }
+        }
+
+        return matrix;
+    }
+
+    private static void assertMatrixEquals(IMatrix expected, IMatrix actual) {
+        for(int row = 0; row < expected.getRowsCount(); row++) {
+            for(int col = 0; col < expected.getColsCount(); col++) {
+                assertEquals("element " + row + ", " + col, expected.get(row, col), actual.get(row, col), DELTA);
+            }
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package math.matrix;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SpectralEstimatorTest {
+
+    @Test
+    public void symmetricSpectralRadiusOfSmallMatrix() {
+        DenseMatrix matrix = new DenseMatrix(new double[][]{{2, -1, 0}, {-1, 2, -1}, {0, -1, 2}});
+
+        // eigenvalues 2 - sqrt(2), 2 and 2 + sqrt(2)
+        assertEquals(2 + Math.sqrt(2), new SpectralEstimator().symmetricSpectralRadius(matrix), 1e-10);
+    }
+
+    @Test
+    public void symmetricSpectralRadiusOfLargeMatrix() {
+        // distinct eigenvalues evenly spread over [-2, -1]
+        int n = 20000;
+        int[] rowPointers = new int[n + 1];
+        int[] columnIndices = new int[n];
+        double[] values = new double[n];
+
+        for(int i = 0; i < n; i++) {
+            rowPointers[i + 1] = i + 1;
+            columnIndices[i] = i;
+            values[i] = -1 - (double) i / (n - 1);
+        }
+
+        SpectralEstimator estimator = new SpectralEstimator();
+        double radius = estimator.symmetricSpectralRadius(new SparseMatrix(n, n, rowPointers, columnIndices, values));
+
+        assertTrue(estimator.hasConverged());
+        assertTrue(estimator.getIterations() < 1000);
+        assertEquals(2, radius, 1e-3);
+        assertTrue(radius <= 2 + 1e-12);
+    }
+
+    @Test
+    public void spectralRadiusOfComplexPair() {
+        DenseMatrix matrix = new DenseMatrix(new double[][]{{-1.636, 2.2476}, {-2.2476, -1.636}});
+
+        assertEquals(Math.hypot(1.636, 2.2476), new SpectralEstimator().spectralRadius(matrix), 1e-6);
+    }
+}
@@ -0,0 +1,173 @@
+package math.util;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+public class DoubleTokenizerTest {
+
+    @Test
+    public void shortNumbers() {
+        assertParsedExactly("0", "1", "-1", "+3", "0.1", "-2.5", ".5", "5.", "123.456", "1e5", "1E5", "1e+5", "1e-5",
+                "2.5e-3", "007", "0.000001", "1e22", "1e23", "9007199254740992", "9007199254740993");
+    }
+
+    @Test
+    public void longMantissas() {
+        assertParsedExactly("1234567890123456789", "9999999999999999999", "18446744073709551615",
+                "18446744073709551616", "12345678901234567890123", "0.30000000000000000000001",
+                "3.14159265358979323846264338327950288", "0.1000000000000000055511151231257827021181583404541015625",
+                "123456789012345678901234567890e-40", "00000000000000000000000000000001.5");
+    }
+
+    @Test
+    public void exactTies() {
+        // halfway between two doubles, rounded to the even one
+        assertParsedExactly("9007199254740993", "9007199254740995", "9007199254740993.0000000000000000001",
+                "1.00000000000000011102230246251565404236316680908203125",
+                "1.00000000000000011102230246251565404236316680908203124",
+                "1.00000000000000011102230246251565404236316680908203126",
+                "1.00000000000000033306690738754696212708950042724609375",
+                "17976931348623158079372897140530341507993413271003782693617377898044496829276475094664736e219");
+    }
+
+    @Test
+    public void subnormalsAndLimits() {
+        assertParsedExactly("4.9e-324", "2.4703282292062327e-324", "2.4703282292062328e-324", "1e-320",
+                "2.2250738585072011e-308", "2.2250738585072012e-308", "2.2250738585072014e-308", "1e-400",
+                "1.7976931348623157e308", "1.7976931348623159e308", "1e309", "-1e-400", "1e-342", "1e-343");
+    }
+
+    @Test
+    public void signedZeros() {
+        assertParsedExactly("0", "-0", "+0", "-0.0", "0e10", "-0e-10", "-0.000000000000000000000000", "0e999999");
+    }
+
+    @Test
+    public void specialValues() {
+        assertParsedExactly("NaN", "Infinity", "-Infinity", "+Infinity");
+    }
+
+    @Test
+    public void invalidTokenIsRejected() {
+        DoubleTokenizer tokenizer = tokenizer("1.5x");
+        tokenizer.nextLine();
+
+        assertThrows(IllegalArgumentException.class, tokenizer::nextDouble);
+    }
+
+    @Test
+    public void randomDoubles() {
+        Random random = new Random(42);
+        String[] tokens = new String[10000];
+
+        for(int i = 0; i < tokens.length; i++) {
+            tokens[i] = Double.toString(Double.longBitsToDouble(random.nextLong()));
+        }
+
+        assertParsedExactly(tokens);
+    }
+
+    @Test
+    public void randomDigitStrings() {
+        Random random = new Random(7);
+        String[] tokens = new String[10000];
+
+        for(int i = 0; i < tokens.length; i++) {
+            StringBuilder token = new StringBuilder();
+            int digits = 1 + random.nextInt(25);
+            int point = random.nextInt(digits + 1);
+
+            for(int j = 0; j < digits; j++) {
+                if(j == point) {
+                    token.append('.');
+                }
+                token.append((char) ('0' + random.nextInt(10)));
+            }
+
+            tokens[i] = token.append('e').append(random.nextInt(700) - 350).toString();
+        }
+
+        assertParsedExactly(tokens);
+    }
+
+    @Test
+    public void crlfAndBlankLines() {
+        DoubleTokenizer tokenizer = tokenizer("\r\n  1 2\r\n\r\n\n\t3\r\n \r\n4 5 6\r\n\r\n");
+
+        assertTrue(tokenizer.nextLine());
+        assertEquals(1, tokenizer.getLine());
+        assertEquals(1, tokenizer.nextDouble(), 0);
+        assertEquals(2, tokenizer.nextDouble(), 0);
+        assertFalse(tokenizer.hasNextOnLine());
+
+        assertTrue(tokenizer.nextLine());
+        assertEquals(4, tokenizer.getLine());
+        assertEquals(3, tokenizer.nextDouble(), 0);
+        assertFalse(tokenizer.hasNextOnLine());
+
+        assertTrue(tokenizer.nextLine());
+        assertEquals(6, tokenizer.getLine());
+        assertEquals(4, tokenizer.nextDouble(), 0);
+        assertEquals(5, tokenizer.nextDouble(), 0);
+        assertEquals(6, tokenizer.nextDouble(), 0);
+        assertFalse(tokenizer.hasNextOnLine());
+        assertThrows(IllegalStateException.class, tokenizer::nextDouble);
+
+        assertFalse(tokenizer.nextLine());
+    }
+
+    @Test
+    public void lastLineWithoutLineEnd() {
+        DoubleTokenizer tokenizer = tokenizer("1\r\n-0");
+
+        assertTrue(tokenizer.nextLine());
+        assertEquals(1, tokenizer.nextDouble(), 0);
+        assertTrue(tokenizer.nextLine());
+        assertEquals(Double.doubleToRawLongBits(-0d), Double.doubleToRawLongBits(tokenizer.nextDouble()));
+        assertFalse(tokenizer.nextLine());
+    }
+
+    @Test
+    public void readsOnlyBetweenPositionAndLimit() {
+        ByteBuffer buffer = ByteBuffer.wrap("9 1 2 9".getBytes(StandardCharsets.US_ASCII));
+        buffer.position(2);
+        buffer.limit(5);
+
+        DoubleTokenizer tokenizer = new DoubleTokenizer(buffer);
+        tokenizer.nextLine();
+
+        assertEquals(1, tokenizer.nextDouble(), 0);
+        assertEquals(2, tokenizer.nextDouble(), 0);
+        assertFalse(tokenizer.hasNextOnLine());
+        assertEquals(2, buffer.position());
+    }
+
+    /**
+     * Parses all tokens from one line and compares the bits of every value with Double.parseDouble
+     */
+    private static void assertParsedExactly(String... tokens) {
+        DoubleTokenizer tokenizer = tokenizer(String.join(" ", tokens));
+        assertTrue(tokenizer.nextLine());
+
+        for(String token : tokens) {
+            long expected = Double.doubleToRawLongBits(Double.parseDouble(token));
+            long actual = Double.doubleToRawLongBits(tokenizer.nextDouble());
+
+            assertEquals(token, Long.toHexString(expected), Long.toHexString(actual));
+        }
+
+        assertFalse(tokenizer.hasNextOnLine());
+    }
+
+    private static DoubleTokenizer tokenizer(String text) {
+        return new DoubleTokenizer(ByteBuffer.wrap(text.getBytes(StandardCharsets.US_ASCII)));
+    }
+}